@@ -0,0 +1,73 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.premereur.cards.java.GameDemo.allCards;
+import static net.premereur.cards.java.GameDemo.allCardsPalette;
+
+/**
+ * Many decks of French cards in flight: every invocation resets, shuffles and deals a hand from the next deck, either
+ * from an ArrayList based deck on the heap or through a single flyweight view on an off-heap arena. Run with -prof gc
+ * to see the difference in heap use.
+ */
+@State(Scope.Thread)
+public class DeckArenaBenchmark {
+    @Param({"100000"})
+    public int numDecks;
+
+    private List<IndexedDeck<GameDemo.FrenchCard>> heapDecks;
+    private DeckArena arena;
+    private ArenaDeck<GameDemo.FrenchCard> arenaDeck;
+    private Shuffler<GameDemo.FrenchCard> shuffler;
+    private Dealer<GameDemo.FrenchCard> dealer;
+    private final GameDemo.FrenchCard[] hand = new GameDemo.FrenchCard[13];
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        heapDecks = new ArrayList<>(numDecks);
+        for (int i = 0; i < numDecks; ++i) {
+            heapDecks.add(new IndexedDeck<>(allCards));
+        }
+        arena = new DeckArena(numDecks, allCards.size());
+        arenaDeck = arena.deck(0, allCardsPalette);
+        shuffler = new GameDemo.DeepShuffler<>(new XoroshiroRandomSource(numDecks));
+        dealer = new GameDemo.TopDealer<>();
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    private int nextDeck() {
+        next = next + 1 == numDecks ? 0 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    public Object heapDeckDealHand() {
+        return dealHand(heapDecks.get(nextDeck()));
+    }
+
+    @Benchmark
+    public Object arenaDeckDealHand() {
+        arenaDeck.moveTo(nextDeck());
+        return dealHand(arenaDeck);
+    }
+
+    private Object dealHand(final ResettableDeck<GameDemo.FrenchCard> deck) {
+        deck.resetTo(allCards);
+        shuffler.shuffle(deck);
+        dealer.dealMany(deck, hand.length, hand, 0);
+        return hand;
+    }
+}
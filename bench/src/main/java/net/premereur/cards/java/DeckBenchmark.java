@@ -0,0 +1,79 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The basic operations of the Deck implementations. To keep the deck at a constant size, every removal is paired with
+ * an insertion at the same place.
+ */
+@State(Scope.Thread)
+public class DeckBenchmark {
+    @Param({"52", "416", "4096"})
+    public int size;
+
+    @Param({"INDEXED", "RING_BUFFER", "SHOE", "FENWICK"})
+    public String deckType;
+
+    private Deck<Integer> deck;
+    private int[] positions;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        final List<Integer> cards = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            cards.add(i);
+        }
+        deck = DeckType.valueOf(deckType).create(cards);
+        // Random positions, so that the JIT cannot specialize on one position
+        final RandomSource random = new XoroshiroRandomSource(size);
+        positions = new int[1024];
+        for (int i = 0; i < positions.length; ++i) {
+            positions[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextPosition() {
+        next = (next + 1) & (positions.length - 1);
+        return positions[next];
+    }
+
+    @Benchmark
+    public Object removeNthAndInsertNth() {
+        final int n = nextPosition();
+        final Integer card = deck.removeNth(n);
+        deck.insertNth(n, card);
+        return card;
+    }
+
+    @Benchmark
+    public Object removeFirstAndInsertFirst() {
+        final Integer card = deck.removeFirst();
+        deck.insertFirst(card);
+        return card;
+    }
+
+    @Benchmark
+    public Object removeLastAndInsertLast() {
+        final Integer card = deck.removeLast();
+        deck.insertLast(card);
+        return card;
+    }
+
+    @Benchmark
+    public Object peek() {
+        return deck.peek(nextPosition());
+    }
+
+    @Benchmark
+    public void swap() {
+        deck.swap(nextPosition(), nextPosition());
+    }
+}
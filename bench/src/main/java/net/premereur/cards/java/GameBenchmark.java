@@ -0,0 +1,70 @@
+package net.premereur.cards.java;
+
+import net.premereur.cards.java.GameDemo.FrenchCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static net.premereur.cards.java.GameDemo.allCards;
+
+/**
+ * The complete games of the demo, and the Trickster on its own. These only work with a deck of 52 French cards. Every
+ * deal starts by resetting the deck.
+ */
+@State(Scope.Thread)
+public class GameBenchmark {
+    @Param({"INDEXED", "RING_BUFFER", "SHOE", "FENWICK"})
+    public String deckType;
+
+    private ResettableDeck<FrenchCard> deck;
+    private GameDemo.Wiezen wiezen;
+    private GameDemo.BufferedWiezen bufferedWiezen;
+    private GameDemo.PickGame bonaFide;
+    private GameDemo.Trickster trickster;
+    private GameDemo.PickGame tricky;
+
+    @Setup
+    public void setUp() {
+        deck = DeckType.valueOf(deckType).create(allCards);
+        final RandomSource random = new XoroshiroRandomSource(52);
+        wiezen = new GameDemo.Wiezen(new GameDemo.DeepShuffler<>(random));
+        bufferedWiezen = new GameDemo.BufferedWiezen(new GameDemo.DeepShuffler<>(random));
+        bonaFide = new GameDemo.PickGame(new GameDemo.TopDealer<>(), new GameDemo.DeepShuffler<>(random));
+        trickster = new GameDemo.Trickster(random);
+        tricky = new GameDemo.PickGame(trickster, trickster);
+    }
+
+    @Benchmark
+    public Object wiezenDealAll() {
+        deck.resetTo(allCards);
+        return wiezen.dealAll(deck);
+    }
+
+    /**
+     * To be compared with wiezenDealAll here and with WiezenBenchmark.deepShuffledDealAll for the Scala version.
+     */
+    @Benchmark
+    public Object bufferedWiezenDealAll() {
+        deck.resetTo(allCards);
+        return bufferedWiezen.dealInto(deck);
+    }
+
+    @Benchmark
+    public Object pickGameDealAll() {
+        deck.resetTo(allCards);
+        return bonaFide.dealAll(deck);
+    }
+
+    @Benchmark
+    public Object trickyPickGameDealAll() {
+        deck.resetTo(allCards);
+        return tricky.dealAll(deck);
+    }
+
+    @Benchmark
+    public void tricksterShuffle() {
+        trickster.shuffle(deck); // the deck stays complete as we never deal from it
+    }
+}
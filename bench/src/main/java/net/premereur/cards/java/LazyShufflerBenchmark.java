@@ -0,0 +1,53 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static net.premereur.cards.java.GameDemo.allCardsPalette;
+
+/**
+ * Shuffling a shoe of French cards and dealing a 2-card hand from it, either after a full shuffle or with the lazy
+ * shuffler. The two cards are put back afterwards, so the shoe stays full.
+ */
+@State(Scope.Thread)
+public class LazyShufflerBenchmark {
+    @Param({"1", "8"})
+    public int numDecks;
+
+    private Shoe<GameDemo.FrenchCard> shoe;
+    private Shuffler<GameDemo.FrenchCard> deepShuffler;
+    private Dealer<GameDemo.FrenchCard> topDealer;
+    private LazyShuffler<GameDemo.FrenchCard> lazyShuffler;
+
+    @Setup
+    public void setUp() {
+        shoe = new Shoe<>(allCardsPalette, numDecks);
+        final RandomSource random = new XoroshiroRandomSource(numDecks);
+        deepShuffler = new GameDemo.DeepShuffler<>(random);
+        topDealer = new GameDemo.TopDealer<>();
+        lazyShuffler = new LazyShuffler<>(random);
+    }
+
+    @Benchmark
+    public Object deepShuffleAndDealTwo() {
+        deepShuffler.shuffle(shoe);
+        return dealTwoAndPutBack(topDealer);
+    }
+
+    @Benchmark
+    public Object lazyShuffleAndDealTwo() {
+        lazyShuffler.shuffle(shoe);
+        return dealTwoAndPutBack(lazyShuffler);
+    }
+
+    private Object dealTwoAndPutBack(final Dealer<GameDemo.FrenchCard> dealer) {
+        final GameDemo.FrenchCard first = dealer.deal(shoe);
+        final GameDemo.FrenchCard second = dealer.deal(shoe);
+        shoe.insertLast(second);
+        shoe.insertLast(first);
+        return first;
+    }
+}
@@ -0,0 +1,60 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single pass of each of the shufflers that mimic physical shuffles, to show that a pass is linear in the size of the
+ * deck. DeepShuffler is included for reference.
+ */
+@State(Scope.Thread)
+public class PhysicalShufflerBenchmark {
+    @Param({"52", "416", "4096"})
+    public int size;
+
+    @Param({"INDEXED", "RING_BUFFER"})
+    public String deckType;
+
+    private Deck<Integer> deck;
+    private final RandomSource random = new XoroshiroRandomSource(1);
+    private final Shuffler<Integer> riffleShuffler = new RiffleShuffler<>(random, 1);
+    private final Shuffler<Integer> overhandShuffler =
+            new OverhandShuffler<>(random, 1, OverhandShuffler.DEFAULT_MEAN_PACKET_SIZE);
+    private final Shuffler<Integer> cutShuffler = new CutShuffler<>(random, 1);
+    private final Shuffler<Integer> deepShuffler = new GameDemo.DeepShuffler<>(random);
+
+    @Setup
+    public void setUp() {
+        final List<Integer> cards = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            cards.add(i);
+        }
+        deck = DeckType.valueOf(deckType).create(cards);
+    }
+
+    @Benchmark
+    public void riffle() {
+        riffleShuffler.shuffle(deck);
+    }
+
+    @Benchmark
+    public void overhand() {
+        overhandShuffler.shuffle(deck);
+    }
+
+    @Benchmark
+    public void cut() {
+        cutShuffler.shuffle(deck);
+    }
+
+    @Benchmark
+    public void deepShuffle() {
+        deepShuffler.shuffle(deck);
+    }
+}
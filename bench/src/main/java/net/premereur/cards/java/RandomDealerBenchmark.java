@@ -0,0 +1,46 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static net.premereur.cards.java.GameDemo.allCardsPalette;
+
+/**
+ * Dealing random cards from shoes of French cards: the CountingDeck should not care about the number of decks, the Shoe
+ * has to move the cards above the dealt one.
+ */
+@State(Scope.Thread)
+public class RandomDealerBenchmark {
+    @Param({"1", "8"})
+    public int numDecks;
+
+    private CountingDeck<GameDemo.FrenchCard> countingDeck;
+    private Shoe<GameDemo.FrenchCard> shoe;
+    private Dealer<GameDemo.FrenchCard> dealer;
+
+    @Setup
+    public void setUp() {
+        countingDeck = new CountingDeck<>(allCardsPalette, numDecks);
+        shoe = new Shoe<>(allCardsPalette, numDecks);
+        dealer = new RandomDealer<>(new XoroshiroRandomSource(numDecks));
+    }
+
+    @Benchmark
+    public Object countingDeckDeal() {
+        if (countingDeck.isEmpty()) {
+            countingDeck.fill(numDecks);
+        }
+        return dealer.deal(countingDeck);
+    }
+
+    @Benchmark
+    public Object shoeDeal() {
+        if (shoe.isEmpty()) {
+            shoe.refill();
+        }
+        return dealer.deal(shoe);
+    }
+}
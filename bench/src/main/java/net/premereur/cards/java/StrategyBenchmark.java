@@ -0,0 +1,65 @@
+package net.premereur.cards.java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The generic shuffling and dealing strategies on decks of different sizes.
+ */
+@State(Scope.Thread)
+public class StrategyBenchmark {
+    @Param({"52", "416", "4096"})
+    public int size;
+
+    @Param({"INDEXED", "RING_BUFFER", "SHOE", "FENWICK"})
+    public String deckType;
+
+    private List<Integer> cards;
+    private ResettableDeck<Integer> deck;
+    private Integer[] hand;
+    private final Shuffler<Integer> deepShuffler = new GameDemo.DeepShuffler<>(new XoroshiroRandomSource(1));
+    private final Dealer<Integer> topDealer = new GameDemo.TopDealer<>();
+
+    @Setup
+    public void setUp() {
+        cards = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            cards.add(i);
+        }
+        deck = DeckType.valueOf(deckType).create(cards);
+        hand = new Integer[size];
+    }
+
+    @Benchmark
+    public void deepShuffle() {
+        deepShuffler.shuffle(deck); // shuffling a shuffled deck is as much work as shuffling a sorted one
+    }
+
+    /**
+     * Resets the deck and deals it completely from the top.
+     */
+    @Benchmark
+    public void topDealAll(final Blackhole blackhole) {
+        deck.resetTo(cards);
+        while (deck.isNotEmpty()) {
+            blackhole.consume(topDealer.deal(deck));
+        }
+    }
+
+    /**
+     * Resets the deck and deals it completely from the top in one block.
+     */
+    @Benchmark
+    public Integer[] topDealMany() {
+        deck.resetTo(cards);
+        topDealer.dealMany(deck, size, hand, 0);
+        return hand;
+    }
+}
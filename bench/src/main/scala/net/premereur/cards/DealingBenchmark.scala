@@ -0,0 +1,26 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck}
+import net.premereur.cards.Demo.{ConsecutiveDealing, TopDealing}
+import org.openjdk.jmh.annotations._
+
+/**
+  * Dealing a complete deck in one go with ConsecutiveDealing on decks of different sizes.
+  */
+@State(Scope.Thread)
+class DealingBenchmark {
+  @Param(Array("52", "416", "2048", "10000"))
+  var size: Int = _
+
+  var deck: Deck[Int] = _
+
+  val consecutiveDealing = new ConsecutiveDealing[Int] with TopDealing[Int]
+
+  @Setup
+  def setUp(): Unit = {
+    deck = IndexedDeck(0 until size)
+  }
+
+  @Benchmark
+  def dealN(): (List[Int], Deck[Int]) = consecutiveDealing.dealN(size, deck)
+}
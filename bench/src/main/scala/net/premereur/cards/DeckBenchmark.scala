@@ -0,0 +1,51 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck}
+import org.openjdk.jmh.annotations._
+
+import scala.util.Random
+
+/**
+  * The basic operations of the persistent IndexedDeck. As every operation returns a new deck, the deck itself stays
+  * the same throughout the benchmark.
+  */
+@State(Scope.Thread)
+class DeckBenchmark {
+  @Param(Array("52", "416", "2048", "10000"))
+  var size: Int = _
+
+  var deck: Deck[Int] = _
+  var positions: Array[Int] = _
+  var next = 0
+
+  @Setup
+  def setUp(): Unit = {
+    deck = IndexedDeck(0 until size)
+    // Random positions, so that the JIT cannot specialize on one position
+    val random = new Random(size)
+    positions = Array.fill(1024)(random.nextInt(size))
+  }
+
+  private def nextPosition = {
+    next = (next + 1) & (positions.length - 1)
+    positions(next)
+  }
+
+  @Benchmark
+  def removeNth(): (Option[Int], Deck[Int]) = deck.removeNth(nextPosition)
+
+  @Benchmark
+  def removeFirst(): (Option[Int], Deck[Int]) = deck.removeFirst
+
+  @Benchmark
+  def removeLast(): (Option[Int], Deck[Int]) = deck.removeLast
+
+  @Benchmark
+  def insertNth(): Deck[Int] = deck.insertNth(nextPosition, -1)
+
+  @Benchmark
+  def insertFirst(): Deck[Int] = deck.insertFirst(-1)
+
+  @Benchmark
+  def insertLast(): Deck[Int] = deck.insertLast(-1)
+}
@@ -0,0 +1,45 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck}
+import net.premereur.cards.Demo.{CutShuffling, OverhandShuffling, RiffleShuffling}
+import org.openjdk.jmh.annotations._
+
+import scala.util.Random
+
+/**
+  * A single pass of each of the shuffling strategies that mimic physical shuffles, to show that a pass is linear in the
+  * size of the deck.
+  */
+@State(Scope.Thread)
+class PacketShufflingBenchmark {
+  @Param(Array("52", "416", "2048", "10000"))
+  var size: Int = _
+
+  var deck: Deck[Int] = _
+
+  implicit val random = new Random(1)
+
+  val riffleShuffler = new RiffleShuffling[Int] {
+    override def riffles = 1
+  }.shuffler
+
+  val overhandShuffler = new OverhandShuffling[Int] {
+    override def overhandPasses = 1
+  }.shuffler
+
+  val cutShuffler = new CutShuffling[Int] {}.shuffler
+
+  @Setup
+  def setUp(): Unit = {
+    deck = IndexedDeck(0 until size)
+  }
+
+  @Benchmark
+  def riffle(): Deck[Int] = riffleShuffler.shuffle(deck)
+
+  @Benchmark
+  def overhand(): Deck[Int] = overhandShuffler.shuffle(deck)
+
+  @Benchmark
+  def cut(): Deck[Int] = cutShuffler.shuffle(deck)
+}
@@ -0,0 +1,37 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck}
+import net.premereur.cards.Demo.{DeepShuffling, HumanLikeShuffling}
+import org.openjdk.jmh.annotations._
+
+import scala.util.Random
+
+/**
+  * The shuffling strategies of the demo on decks of different sizes.
+  */
+@State(Scope.Thread)
+class ShufflingBenchmark {
+  @Param(Array("52", "416", "2048", "10000"))
+  var size: Int = _
+
+  var deck: Deck[Int] = _
+
+  implicit val random = new Random(1)
+
+  val deepShuffler = new DeepShuffling[Int] {}.shuffler
+
+  val humanLikeShuffler = new HumanLikeShuffling[Int] {
+    val maxShuffles = 40
+  }.shuffler
+
+  @Setup
+  def setUp(): Unit = {
+    deck = IndexedDeck(0 until size)
+  }
+
+  @Benchmark
+  def deepShuffle(): Deck[Int] = deepShuffler.shuffle(deck)
+
+  @Benchmark
+  def humanLikeShuffle(): Deck[Int] = humanLikeShuffler.shuffle(deck)
+}
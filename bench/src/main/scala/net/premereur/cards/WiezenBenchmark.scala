@@ -0,0 +1,27 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.IndexedDeck
+import net.premereur.cards.Demo.{AllHands, DeepShuffling, FrenchCard, FrenchCards, HumanLikeShuffling, Wiezen}
+import org.openjdk.jmh.annotations._
+
+import scala.util.Random
+
+/**
+  * Dealing a game of Wiezen (which includes the shuffling) with both shuffling strategies.
+  */
+@State(Scope.Thread)
+class WiezenBenchmark {
+  implicit val random = new Random(1)
+
+  val deck = IndexedDeck(FrenchCards.allCards)
+
+  val deepShuffledWiezen = new Wiezen with DeepShuffling[FrenchCard]
+
+  val humanLikeShuffledWiezen = new Wiezen with HumanLikeShuffling[FrenchCard]
+
+  @Benchmark
+  def deepShuffledDealAll(): AllHands[FrenchCard] = deepShuffledWiezen.dealAll(deck)
+
+  @Benchmark
+  def humanLikeShuffledDealAll(): AllHands[FrenchCard] = humanLikeShuffledWiezen.dealAll(deck)
+}
@@ -0,0 +1,149 @@
+package net.premereur.cards.java;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A flyweight Deck view on one of the decks in a DeckArena. The view only knows where its deck starts; the cards live
+ * in the arena as palette ordinals. Move the view with moveTo to work on another deck without creating a new view.
+ * Views are not thread-safe, but any number of views can be used on the same arena.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public final class ArenaDeck<Card> implements ResettableDeck<Card> {
+    private final DeckArena arena;
+    private final CardPalette<Card> palette;
+    private int index;
+    private int offset;
+
+    ArenaDeck(final DeckArena arena, final CardPalette<Card> palette) {
+        if (palette.size() > DeckArena.MAX_PALETTE_SIZE) {
+            throw new IllegalArgumentException("An arena deck holds at most " + DeckArena.MAX_PALETTE_SIZE +
+                    " distinct cards: " + palette.size());
+        }
+        this.arena = arena;
+        this.palette = palette;
+    }
+
+    /**
+     * Points the view to the deck with the given index in the arena.
+     */
+    public void moveTo(final int index) {
+        this.offset = arena.offsetOf(index);
+        this.index = index;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public CardPalette<Card> palette() {
+        return palette;
+    }
+
+    @Override
+    public int size() {
+        return arena.buffer().getShort(offset) & 0xFFFF;
+    }
+
+    public int removeNthOrdinal(final int n) {
+        final ByteBuffer buffer = arena.buffer();
+        final int size = size();
+        checkIndex(n, size);
+        final int cards = offset + DeckArena.HEADER_SIZE;
+        final int ordinal = buffer.get(cards + n) & 0xFF;
+        for (int i = cards + n; i < cards + size - 1; ++i) {
+            buffer.put(i, buffer.get(i + 1));
+        }
+        buffer.putShort(offset, (short) (size - 1));
+        return ordinal;
+    }
+
+    public void insertNthOrdinal(final int n, final int ordinal) {
+        final ByteBuffer buffer = arena.buffer();
+        final int size = size();
+        checkIndex(n, size + 1);
+        if (size == arena.maxCards()) {
+            throw new IllegalStateException("The deck is full: " + size + " cards");
+        }
+        final int cards = offset + DeckArena.HEADER_SIZE;
+        for (int i = cards + size; i > cards + n; --i) {
+            buffer.put(i, buffer.get(i - 1));
+        }
+        buffer.put(cards + n, (byte) ordinal);
+        buffer.putShort(offset, (short) (size + 1));
+    }
+
+    public int peekOrdinal(final int n) {
+        final ByteBuffer buffer = arena.buffer();
+        checkIndex(n, size());
+        return buffer.get(offset + DeckArena.HEADER_SIZE + n) & 0xFF;
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        return palette.card(removeNthOrdinal(n));
+    }
+
+    @Override
+    public void insertNth(final int n, final Card card) {
+        insertNthOrdinal(n, palette.ordinal(card));
+    }
+
+    @Override
+    public Card peek(final int n) {
+        return palette.card(peekOrdinal(n));
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        final ByteBuffer buffer = arena.buffer();
+        final int size = size();
+        checkIndex(i, size);
+        checkIndex(j, size);
+        final int cards = offset + DeckArena.HEADER_SIZE;
+        final byte card = buffer.get(cards + i);
+        buffer.put(cards + i, buffer.get(cards + j));
+        buffer.put(cards + j, card);
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        final ByteBuffer buffer = arena.buffer();
+        checkCapacity(template.size());
+        palette.checkContainsAll(template);
+        final int cards = offset + DeckArena.HEADER_SIZE;
+        for (int i = 0; i < template.size(); ++i) {
+            buffer.put(cards + i, (byte) palette.ordinal(template.get(i)));
+        }
+        buffer.putShort(offset, (short) template.size());
+    }
+
+    /**
+     * Resets the deck to the ordinals 0 (bottom) until numCards (top) in order.
+     */
+    public void resetToOrdinals(final int numCards) {
+        final ByteBuffer buffer = arena.buffer();
+        checkCapacity(numCards);
+        if (numCards > palette.size()) {
+            throw new IllegalArgumentException("The palette holds only " + palette.size() + " cards: " + numCards);
+        }
+        final int cards = offset + DeckArena.HEADER_SIZE;
+        for (int i = 0; i < numCards; ++i) {
+            buffer.put(cards + i, (byte) i);
+        }
+        buffer.putShort(offset, (short) numCards);
+    }
+
+    private void checkCapacity(final int numCards) {
+        if (numCards > arena.maxCards()) {
+            throw new IllegalStateException("The deck holds at most " + arena.maxCards() + " cards: " + numCards);
+        }
+    }
+
+    private static void checkIndex(final int n, final int limit) {
+        if (n < 0 || n >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + limit);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+
+/**
+ * A shuffling strategy for many independent decks at once. Modifies the decks in-place. Simulations that shuffle
+ * thousands of decks per step can use an implementation that amortizes the per-deck overhead; any existing Shuffler
+ * can be used through the adapter.
+ *
+ * @param <Card> The type of cards in the decks
+ */
+public interface BatchShuffler<Card> {
+    void shuffleAll(List<? extends Deck<Card>> decks);
+
+    /**
+     * Adapts a plain Shuffler by shuffling the decks one by one.
+     */
+    static <Card> BatchShuffler<Card> of(final Shuffler<Card> shuffler) {
+        return decks -> {
+            for (int i = 0; i < decks.size(); ++i) {
+                shuffler.shuffle(decks.get(i));
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package net.premereur.cards.java;
+
+/**
+ * Generation of uniformly distributed ints in a range, as needed by the shuffling and dealing strategies. Uses Lemire's
+ * nearly divisionless method (Fast Random Integer Generation in an Interval, 2019): a 32x32 bit multiplication maps the
+ * random bits onto the range, and only in the rare case that the result could be biased, a division is needed to
+ * decide whether the value has to be rejected.
+ */
+public final class BoundedRandom {
+    private BoundedRandom() {
+    }
+
+    /**
+     * @return a uniformly distributed int in [0, bound)
+     */
+    public static int nextInt(final RandomSource random, final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        return bounded(random, random.nextInt(), bound);
+    }
+
+    /**
+     * @return a uniformly distributed int in [lower, limit)
+     */
+    public static int nextInt(final RandomSource random, final int lower, final int limit) {
+        return lower + nextInt(random, limit - lower);
+    }
+
+    /**
+     * Fills the swap targets of a Fisher-Yates shuffle of numCards cards: targets[i] is uniformly distributed in [0, i]
+     * for every i in [1, numCards). Every 64 random bits are used for two targets, so this needs about half the calls
+     * to the random source that drawing the targets one by one would.
+     */
+    public static void fillSwapTargets(final RandomSource random, final int[] targets, final int numCards) {
+        for (int i = 1; i < numCards; i += 2) {
+            final long bits = random.nextLong();
+            targets[i] = bounded(random, (int) (bits >>> 32), i + 1);
+            if (i + 1 < numCards) {
+                targets[i + 1] = bounded(random, (int) bits, i + 2);
+            }
+        }
+    }
+
+    // The bounded int for the given 32 random bits. Only in case of a rejection, new bits are drawn from the source.
+    private static int bounded(final RandomSource random, final int bits, final int bound) {
+        long product = (bits & 0xFFFFFFFFL) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            final int threshold = Integer.remainderUnsigned(-bound, bound); // 2^32 mod bound
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (random.nextInt() & 0xFFFFFFFFL) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+}
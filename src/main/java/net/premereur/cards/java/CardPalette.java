@@ -0,0 +1,54 @@
+package net.premereur.cards.java;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A fixed set of distinct cards where every card is addressed by a small integer: its ordinal. The ordinal of a card is
+ * its position in the list the palette was created from. Palettes are immutable and can be shared by any number of
+ * decks (and threads).
+ *
+ * @param <Card> The type of cards in the palette
+ */
+public final class CardPalette<Card> {
+    private final Object[] cards;
+    private final Map<Card, Integer> ordinals;
+
+    public CardPalette(final List<Card> cards) {
+        this.cards = cards.toArray();
+        this.ordinals = new HashMap<>();
+        for (int i = 0; i < this.cards.length; ++i) {
+            if (ordinals.put(cards.get(i), i) != null) {
+                throw new IllegalArgumentException("Duplicate card in palette: " + cards.get(i));
+            }
+        }
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Card card(final int ordinal) {
+        return (Card) cards[ordinal]; // Throw if need be
+    }
+
+    public int ordinal(final Card card) {
+        final Integer ordinal = ordinals.get(card);
+        if (ordinal == null) {
+            throw new IllegalArgumentException("Card not in palette: " + card);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Throws like ordinal does if any of the cards is not in the palette. Decks call this before resetting, so that a
+     * bad template leaves them untouched instead of half reset.
+     */
+    public void checkContainsAll(final List<? extends Card> cards) {
+        for (int i = 0; i < cards.size(); ++i) {
+            ordinal(cards.get(i));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package net.premereur.cards.java;
+
+import java.util.Collection;
+
+/**
+ * A set of cards from a palette, stored as a bitmask over the card ordinals. A hand of a 52-card game fits in a single
+ * long, so holding, testing and counting cards neither allocates nor chases pointers.
+ */
+public interface CardSet {
+    /**
+     * @return the number of ordinals the set can hold: ordinals go from 0 until capacity
+     */
+    int capacity();
+
+    /**
+     * @return true if the ordinal was not in the set yet
+     */
+    boolean add(int ordinal);
+
+    /**
+     * @return true if the ordinal was in the set
+     */
+    boolean remove(int ordinal);
+
+    boolean contains(int ordinal);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    void clear();
+
+    /**
+     * Masks cover the ordinals 0 until 64, which is enough for the suits of a 52-card palette whatever kind of set holds
+     * the hand.
+     *
+     * @return the number of cards in the set whose ordinal has its bit set in the mask
+     */
+    int count(long mask);
+
+    /**
+     * Makes it possible to iterate without allocating: for (int o = set.nextOrdinal(0); o >= 0; o = set.nextOrdinal(o + 1))
+     *
+     * @return the smallest ordinal in the set that is not less than from, or -1 if there is none
+     */
+    int nextOrdinal(int from);
+
+    /**
+     * Creates an empty set of the most compact kind that can hold the ordinals 0 until capacity.
+     */
+    static CardSet ofCapacity(final int capacity) {
+        return capacity <= LongCardSet.MAX_CAPACITY ? new LongCardSet(capacity) : new LongArrayCardSet(capacity);
+    }
+
+    /**
+     * Packs the cards of a hand by their ordinal in the palette.
+     */
+    static <Card> CardSet of(final CardPalette<Card> palette, final Collection<? extends Card> cards) {
+        final CardSet set = ofCapacity(palette.size());
+        for (final Card card : cards) {
+            set.add(palette.ordinal(card));
+        }
+        return set;
+    }
+}
@@ -0,0 +1,131 @@
+package net.premereur.cards.java;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Deck that only knows how many of each card it holds, for simulations where the composition of the deck matters but
+ * its order does not. The cards have no order of their own: position n is the n-th card when they are lined up by
+ * palette ordinal, inserting ignores the position and swapping changes nothing.
+ * <p>
+ * Finding the card at a position takes O(log k) in a Fenwick tree over the k cards of the palette, so dealing a random
+ * card from an 8-deck shoe costs as much as from a single deck. Combine it with a RandomDealer.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class CountingDeck<Card> implements ResettableDeck<Card> {
+    private final CardPalette<Card> palette;
+    private final int[] counts;
+    private final FenwickTree tree;
+    private int size;
+
+    /**
+     * Creates an empty deck.
+     */
+    public CountingDeck(final CardPalette<Card> palette) {
+        this(palette, 0);
+    }
+
+    /**
+     * Creates a deck holding the given number of copies of every card of the palette.
+     */
+    public CountingDeck(final CardPalette<Card> palette, final int copies) {
+        this.palette = palette;
+        this.counts = new int[palette.size()];
+        this.tree = new FenwickTree(palette.size());
+        fill(copies);
+    }
+
+    public CardPalette<Card> palette() {
+        return palette;
+    }
+
+    /**
+     * @return how many copies of the card are in the deck
+     */
+    public int count(final Card card) {
+        return counts[palette.ordinal(card)];
+    }
+
+    public int countOrdinal(final int ordinal) {
+        return counts[ordinal];
+    }
+
+    /**
+     * Replaces the contents by the given number of copies of every card of the palette.
+     */
+    public void fill(final int copies) {
+        if (copies < 0) {
+            throw new IllegalArgumentException("The number of copies must not be negative: " + copies);
+        }
+        Arrays.fill(counts, copies);
+        tree.resetTo(counts);
+        size = copies * counts.length;
+    }
+
+    /**
+     * Removes the card at the given position and gives its ordinal, without looking it up in the palette.
+     */
+    public int removeNthOrdinal(final int n) {
+        checkIndex(n, size);
+        final int ordinal = tree.indexOfRank(n);
+        counts[ordinal] -= 1;
+        tree.add(ordinal, -1);
+        size -= 1;
+        return ordinal;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        return palette.card(removeNthOrdinal(n));
+    }
+
+    /**
+     * Adds the card. The position is only checked: the card takes its place among the cards of the same ordinal.
+     */
+    @Override
+    public void insertNth(final int n, final Card card) {
+        checkIndex(n, size + 1);
+        final int ordinal = palette.ordinal(card);
+        counts[ordinal] += 1;
+        tree.add(ordinal, 1);
+        size += 1;
+    }
+
+    @Override
+    public Card peek(final int n) {
+        checkIndex(n, size);
+        return palette.card(tree.indexOfRank(n));
+    }
+
+    /**
+     * Does nothing but check the positions, as the cards have no order to change.
+     */
+    @Override
+    public void swap(final int i, final int j) {
+        checkIndex(i, size);
+        checkIndex(j, size);
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        palette.checkContainsAll(template);
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < template.size(); ++i) {
+            counts[palette.ordinal(template.get(i))] += 1;
+        }
+        tree.resetTo(counts);
+        size = template.size();
+    }
+
+    private static void checkIndex(final int n, final int limit) {
+        if (n < 0 || n >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + limit);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package net.premereur.cards.java;
+
+/**
+ * Cuts the deck: the top part is lifted off and put under the rest of the deck. The cut point is binomially
+ * distributed, as a human tends to cut near the middle.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class CutShuffler<Card> extends PermutationShuffler<Card> {
+    public CutShuffler() {
+        this(ThreadLocalRandomSource.INSTANCE, 1);
+    }
+
+    public CutShuffler(final RandomSource random, final int cuts) {
+        super(random, cuts);
+    }
+
+    @Override
+    protected void pass(final int[] from, final int[] to, final int numCards) {
+        final int cut = binomialHalf(numCards);
+        System.arraycopy(from, cut, to, 0, numCards - cut);
+        System.arraycopy(from, 0, to, numCards - cut, cut);
+    }
+}
@@ -0,0 +1,103 @@
+package net.premereur.cards.java;
+
+/**
+ * A fixed way of dealing a deck in packets, compiled into lookup tables once so that games don't have to interpret it
+ * on every deal. The packets go round the players: packet k goes to player k % numPlayers. Wiezen, for instance, deals
+ * rounds of 4, 5 and 4 cards to 4 players: DealPattern.rounds(4, 4, 5, 4).
+ */
+public final class DealPattern {
+    private final int numPlayers;
+    private final int[] handSizes;
+    private final int[] packetSizes;
+    private final int[] packetPlayers;
+    private final int[] packetOffsets;
+    private final int[] playerAt;
+    private final int[] slotAt;
+
+    public DealPattern(final int numPlayers, final int... packetSizes) {
+        if (numPlayers < 0 || numPlayers == 0 && packetSizes.length > 0) {
+            throw new IllegalArgumentException("Packets need at least one player: " + numPlayers);
+        }
+        this.numPlayers = numPlayers;
+        this.handSizes = new int[numPlayers];
+        this.packetSizes = packetSizes.clone();
+        this.packetPlayers = new int[packetSizes.length];
+        this.packetOffsets = new int[packetSizes.length];
+        int numCards = 0;
+        for (int packet = 0; packet < packetSizes.length; ++packet) {
+            if (packetSizes[packet] < 0) {
+                throw new IllegalArgumentException("Packet sizes must not be negative: " + packetSizes[packet]);
+            }
+            final int player = packet % numPlayers;
+            packetPlayers[packet] = player;
+            packetOffsets[packet] = handSizes[player];
+            handSizes[player] += packetSizes[packet];
+            numCards += packetSizes[packet];
+        }
+        this.playerAt = new int[numCards];
+        this.slotAt = new int[numCards];
+        int position = 0;
+        for (int packet = 0; packet < packetSizes.length; ++packet) {
+            for (int i = 0; i < packetSizes[packet]; ++i, ++position) {
+                playerAt[position] = packetPlayers[packet];
+                slotAt[position] = packetOffsets[packet] + i;
+            }
+        }
+    }
+
+    /**
+     * Creates the pattern where every player gets cardsPerRound[r] cards in round r.
+     */
+    public static DealPattern rounds(final int numPlayers, final int... cardsPerRound) {
+        final int[] packetSizes = new int[cardsPerRound.length * numPlayers];
+        for (int packet = 0; packet < packetSizes.length; ++packet) {
+            packetSizes[packet] = cardsPerRound[packet / numPlayers];
+        }
+        return new DealPattern(numPlayers, packetSizes);
+    }
+
+    public int numPlayers() {
+        return numPlayers;
+    }
+
+    public int numCards() {
+        return playerAt.length;
+    }
+
+    public int handSize(final int player) {
+        return handSizes[player];
+    }
+
+    public int numPackets() {
+        return packetSizes.length;
+    }
+
+    public int packetSize(final int packet) {
+        return packetSizes[packet];
+    }
+
+    public int packetPlayer(final int packet) {
+        return packetPlayers[packet];
+    }
+
+    /**
+     * @return the position in the hand of the packet's player where the first card of the packet goes
+     */
+    public int packetOffset(final int packet) {
+        return packetOffsets[packet];
+    }
+
+    /**
+     * @return the player that gets the card dealt at the given position (starting from 0)
+     */
+    public int playerAt(final int position) {
+        return playerAt[position];
+    }
+
+    /**
+     * @return the position in the hand of the player where the card dealt at the given position goes
+     */
+    public int slotAt(final int position) {
+        return slotAt[position];
+    }
+}
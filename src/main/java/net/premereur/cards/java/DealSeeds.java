@@ -0,0 +1,27 @@
+package net.premereur.cards.java;
+
+/**
+ * Derives the seed of every deal of a simulation run from the seed of the run and the number of the deal. The seeds are
+ * counter-based (SplitMix64 over the deal number): any deal can be regenerated on its own, and any range of deals can
+ * be dealt by any thread or machine, without coordination and with the same outcome.
+ */
+public final class DealSeeds {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private DealSeeds() {
+    }
+
+    /**
+     * @return the seed of deal number deal (starting from 0) in the run with seed runSeed
+     */
+    public static long seedFor(final long runSeed, final long deal) {
+        return XoroshiroRandomSource.mix(XoroshiroRandomSource.mix(runSeed) + (deal + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * @return a new generator for deal number deal in the run with seed runSeed
+     */
+    public static XoroshiroRandomSource randomFor(final long runSeed, final long deal) {
+        return new XoroshiroRandomSource(seedFor(runSeed, deal));
+    }
+}
@@ -0,0 +1,110 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import net.premereur.cards.java.GameDemo.CompleteDealGame;
+
+/**
+ * Runs a large number of deals of a CompleteDealGame in parallel on a ForkJoinPool. The deals are divided in batches;
+ * every batch gets its own game (and so its own strategies), its own deck and its own random generator, so that the
+ * workers share nothing. The outcome of every deal is fed to a Collector of which the partial results are merged at the
+ * end.
+ * <p>
+ * The generator of a batch is reseeded before every deal with the seed DealSeeds derives for that deal, so a run is
+ * reproducible from its seed, whatever the batch size or the number of threads, and any deal can be regenerated alone.
+ *
+ * @param <Card> The type of cards to play with
+ */
+class DealSimulationEngine<Card> {
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Function<RandomSource, CompleteDealGame<Card>> gameFactory;
+    private final List<Card> cards;
+    private final DeckType deckType;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * @param gameFactory creates a game whose strategies use the given random generator
+     * @param cards       the cards in the deck at the start of every deal
+     */
+    DealSimulationEngine(final Function<RandomSource, CompleteDealGame<Card>> gameFactory, final List<Card> cards) {
+        this(gameFactory, cards, DeckType.INDEXED, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    DealSimulationEngine(final Function<RandomSource, CompleteDealGame<Card>> gameFactory, final List<Card> cards,
+                         final DeckType deckType, final ForkJoinPool pool, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.gameFactory = gameFactory;
+        this.cards = cards;
+        this.deckType = deckType;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deals numDeals games and collects the hands of every deal.
+     */
+    <A, R> R run(final long numDeals, final long seed, final Collector<List<List<Card>>, A, R> collector) {
+        final A result = pool.invoke(new DealTask<>(0, numDeals, seed, collector));
+        return collector.finisher().apply(result);
+    }
+
+    /**
+     * Regenerates deal number deal of the run with the given seed.
+     */
+    List<List<Card>> deal(final long seed, final long deal) {
+        final ResettableDeck<Card> deck = deckType.create(cards);
+        return gameFactory.apply(DealSeeds.randomFor(seed, deal)).dealAll(deck);
+    }
+
+    private class DealTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long until;
+        private final long seed;
+        private final Collector<List<List<Card>>, A, ?> collector;
+
+        DealTask(final long from, final long until, final long seed,
+                 final Collector<List<List<Card>>, A, ?> collector) {
+            this.from = from;
+            this.until = until;
+            this.seed = seed;
+            this.collector = collector;
+        }
+
+        @Override
+        protected A compute() {
+            if (until - from <= batchSize) {
+                return dealBatch();
+            }
+            // Split at a batch boundary, so that the batches do not depend on the scheduling
+            final long numBatches = (until - from + batchSize - 1) / batchSize;
+            final long middle = from + numBatches / 2 * batchSize;
+            final DealTask<A> upper = new DealTask<>(middle, until, seed, collector);
+            upper.fork();
+            final A lower = new DealTask<>(from, middle, seed, collector).compute();
+            return collector.combiner().apply(lower, upper.join());
+        }
+
+        private A dealBatch() {
+            final XoroshiroRandomSource random = new XoroshiroRandomSource(seed);
+            final CompleteDealGame<Card> game = gameFactory.apply(random);
+            final ResettableDeck<Card> deck = deckType.create(cards);
+            final A accumulation = collector.supplier().get();
+            for (long deal = from; deal < until; ++deal) {
+                random.reseed(DealSeeds.seedFor(seed, deal));
+                deck.resetTo(cards);
+                collector.accumulator().accept(accumulation, game.dealAll(deck));
+            }
+            return accumulation;
+        }
+    }
+}
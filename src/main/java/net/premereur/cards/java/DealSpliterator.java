@@ -0,0 +1,126 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.premereur.cards.java.GameDemo.CompleteDealGame;
+
+/**
+ * Produces the deals of a CompleteDealGame lazily, one at a time, so that a consumer of millions of deals never holds
+ * more than the deal at hand. Like the batches of the DealSimulationEngine, every part of a split gets its own game, its
+ * own deck and its own random generator, so parallel streams share nothing.
+ * <p>
+ * Every deal is dealt with the seed DealSeeds derives for it, so the stream is reproducible from its seed, be it
+ * sequential or parallel, and gives the same deals as a DealSimulationEngine run with the same seed.
+ * <p>
+ * Games may reuse the lists they return (BufferedWiezen does), so the hands should be consumed (or copied) before the
+ * next deal.
+ *
+ * @param <Card> The type of cards to play with
+ */
+class DealSpliterator<Card> implements Spliterator<List<List<Card>>> {
+    private static final int DEFAULT_MIN_SPLIT_SIZE = 256;
+
+    private final Function<RandomSource, CompleteDealGame<Card>> gameFactory;
+    private final List<Card> cards;
+    private final DeckType deckType;
+    private final int minSplitSize;
+    private final long seed;
+    private long from;
+    private final long until;
+    private XoroshiroRandomSource random;
+    private CompleteDealGame<Card> game;
+    private ResettableDeck<Card> deck;
+
+    DealSpliterator(final Function<RandomSource, CompleteDealGame<Card>> gameFactory, final List<Card> cards,
+                    final DeckType deckType, final int minSplitSize, final long seed, final long from,
+                    final long until) {
+        if (minSplitSize <= 0) {
+            throw new IllegalArgumentException("minSplitSize must be positive: " + minSplitSize);
+        }
+        this.gameFactory = gameFactory;
+        this.cards = cards;
+        this.deckType = deckType;
+        this.minSplitSize = minSplitSize;
+        this.seed = seed;
+        this.from = from;
+        this.until = until;
+    }
+
+    /**
+     * @param gameFactory creates a game whose strategies use the given random generator
+     * @param cards       the cards in the deck at the start of every deal
+     * @return a sequential stream of numDeals deals; call parallel() on it to spread the deals over threads
+     */
+    static <Card> Stream<List<List<Card>>> deals(final Function<RandomSource, CompleteDealGame<Card>> gameFactory,
+                                                 final List<Card> cards, final long numDeals, final long seed) {
+        return deals(gameFactory, cards, DeckType.INDEXED, DEFAULT_MIN_SPLIT_SIZE, numDeals, seed);
+    }
+
+    static <Card> Stream<List<List<Card>>> deals(final Function<RandomSource, CompleteDealGame<Card>> gameFactory,
+                                                 final List<Card> cards, final DeckType deckType,
+                                                 final int minSplitSize, final long numDeals, final long seed) {
+        if (numDeals < 0) {
+            throw new IllegalArgumentException("numDeals must not be negative: " + numDeals);
+        }
+        return StreamSupport.stream(new DealSpliterator<>(gameFactory, cards, deckType, minSplitSize,
+                seed, 0, numDeals), false);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super List<List<Card>>> action) {
+        if (from >= until) {
+            return false;
+        }
+        action.accept(deal(from++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super List<List<Card>>> action) {
+        while (from < until) {
+            action.accept(deal(from++));
+        }
+    }
+
+    private List<List<Card>> deal(final long deal) {
+        if (game == null) { // Postponed until the first deal, so that only the parts that are used get a game
+            random = new XoroshiroRandomSource(seed);
+            game = gameFactory.apply(random);
+            deck = deckType.create(cards);
+        }
+        random.reseed(DealSeeds.seedFor(seed, deal));
+        deck.resetTo(cards);
+        return game.dealAll(deck);
+    }
+
+    /**
+     * Splits off the first half of the remaining deals, unless there are too few left to make it worthwhile.
+     */
+    @Override
+    public Spliterator<List<List<Card>>> trySplit() {
+        final long remaining = until - from;
+        if (remaining < 2L * minSplitSize) {
+            return null;
+        }
+        final long middle = from + remaining / 2;
+        final Spliterator<List<List<Card>>> prefix =
+                new DealSpliterator<>(gameFactory, cards, deckType, minSplitSize, seed, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return until - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -7,4 +7,18 @@ package net.premereur.cards.java;
  */
 public interface Dealer<Card> {
     Card deal(Deck<Card> deck);
+
+    /**
+     * Deals n cards at once and writes them to the caller's buffer in the order they are dealt: sink[offset] gets the
+     * first card dealt. Dealers that take their cards from one place in the deck should override this to remove all
+     * cards in one operation.
+     * <p>
+     * The sink must really be a Card[] (or an array of a supertype of the runtime type of the cards): a Dealer of a
+     * concrete card type stores into it as such, so an Object[] cast to Card[] fails with a ClassCastException.
+     */
+    default void dealMany(Deck<Card> deck, int n, Card[] sink, int offset) {
+        for (int i = 0; i < n; ++i) {
+            sink[offset + i] = deal(deck);
+        }
+    }
 }
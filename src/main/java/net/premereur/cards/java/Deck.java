@@ -1,5 +1,8 @@
 package net.premereur.cards.java;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A typical Java implementation of a Deck of cards. Let's go for a traditional mutable interface. Also, unlike in a
  * functional version, any out-of-bounds access will trigger a RuntimeException. To keep things efficient, peek and swap
@@ -36,10 +39,65 @@ interface Deck<Card> {
     }
 
     default void insertLast(Card card) {
-        insertNth(0, card);
+        insertNth(size(), card);
     }
 
     Card peek(int n);
 
     void swap(int i, int j);
+
+    /**
+     * Removes the cards from position from (inclusive) until position until (exclusive) in one go.
+     *
+     * @return the removed cards, in the order they were in the deck
+     */
+    default List<Card> removeRange(int from, int until) {
+        if (from < 0 || until > size() || from > until) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + until + "), Size: " + size());
+        }
+        final List<Card> removed = new ArrayList<>(until - from);
+        for (int i = from; i < until; ++i) {
+            removed.add(removeNth(from));
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the cards from position from (inclusive) until position until (exclusive) in one go, and writes them to
+     * the caller's buffer: sink[offset] gets the card at position from, and so on.
+     */
+    default void removeRange(int from, int until, Card[] sink, int offset) {
+        if (from < 0 || until > size() || from > until) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + until + "), Size: " + size());
+        }
+        for (int i = from; i < until; ++i) {
+            sink[offset + i - from] = peek(i);
+        }
+        // Removing from the top down keeps the number of moved cards to a minimum for array based decks
+        for (int i = until - 1; i >= from; --i) {
+            removeNth(i);
+        }
+    }
+
+    /**
+     * Inserts the cards so that the first one ends up at position n and the others follow it in order.
+     */
+    default void insertAll(int n, List<? extends Card> cards) {
+        for (int i = 0; i < cards.size(); ++i) {
+            insertNth(n + i, cards.get(i));
+        }
+    }
+
+    /**
+     * Rotates the cards so that the card at position i ends up at position (i + distance) modulo the size of the deck,
+     * like Collections.rotate. A positive distance thus moves the last cards to the front of the deck.
+     */
+    default void rotate(int distance) {
+        if (isNotEmpty()) {
+            final int shift = Math.floorMod(distance, size());
+            if (shift != 0) {
+                insertAll(0, removeRange(size() - shift, size()));
+            }
+        }
+    }
 }
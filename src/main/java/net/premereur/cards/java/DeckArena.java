@@ -0,0 +1,97 @@
+package net.premereur.cards.java;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Off-heap storage for a large number of decks, so that millions of decks in flight cost the garbage collector one
+ * object instead of millions of lists. The arena is a single direct buffer cut in slices of a fixed stride; every slice
+ * holds the number of cards in the deck (an unsigned short) followed by one byte per card: its ordinal in a palette of
+ * at most 256 cards.
+ * <p>
+ * Decks are accessed through ArenaDeck views, which are flyweights: a view holds no cards and can be moved from one deck
+ * to the next. Different threads can work on different decks of the same arena, each through its own view.
+ * <p>
+ * Closing the arena makes all its views unusable, on any thread: every operation started after close() fails. An
+ * operation that is already running on another thread may still complete, so close the arena only once the threads
+ * using it are done. As the Java 8 buffer API cannot free direct memory on demand, the memory itself is returned when
+ * the garbage collector reclaims the buffer after the arena is closed.
+ */
+public final class DeckArena implements AutoCloseable {
+    static final int MAX_PALETTE_SIZE = 256;
+    static final int HEADER_SIZE = Short.BYTES;
+    private static final int MAX_CARDS = 0xFFFF;
+
+    private final int numDecks;
+    private final int maxCards;
+    private final int stride;
+    // Volatile, so that views on other threads see the arena being closed
+    private volatile ByteBuffer buffer;
+
+    /**
+     * Creates an arena of empty decks.
+     *
+     * @param numDecks the number of decks in the arena
+     * @param maxCards the number of cards every deck can hold
+     */
+    public DeckArena(final int numDecks, final int maxCards) {
+        if (numDecks < 0) {
+            throw new IllegalArgumentException("The number of decks must not be negative: " + numDecks);
+        }
+        if (maxCards < 0 || maxCards > MAX_CARDS) {
+            throw new IllegalArgumentException("A deck can hold between 0 and " + MAX_CARDS + " cards: " + maxCards);
+        }
+        this.numDecks = numDecks;
+        this.maxCards = maxCards;
+        this.stride = HEADER_SIZE + maxCards;
+        final long capacity = (long) numDecks * stride;
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("An arena holds at most " + Integer.MAX_VALUE + " bytes: " + capacity);
+        }
+        this.buffer = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+
+    public int numDecks() {
+        return numDecks;
+    }
+
+    public int maxCards() {
+        return maxCards;
+    }
+
+    /**
+     * @return a view on the deck with the given index
+     */
+    public <Card> ArenaDeck<Card> deck(final int index, final CardPalette<Card> palette) {
+        final ArenaDeck<Card> deck = new ArenaDeck<>(this, palette);
+        deck.moveTo(index);
+        return deck;
+    }
+
+    public boolean isOpen() {
+        return buffer != null;
+    }
+
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    /**
+     * @return the buffer, which views should not hold on to so that closing the arena takes effect
+     */
+    ByteBuffer buffer() {
+        final ByteBuffer current = buffer;
+        if (current == null) {
+            throw new IllegalStateException("The deck arena is closed");
+        }
+        return current;
+    }
+
+    int offsetOf(final int index) {
+        if (index < 0 || index >= numDecks) {
+            throw new IndexOutOfBoundsException("Deck: " + index + ", Number of decks: " + numDecks);
+        }
+        return index * stride;
+    }
+}
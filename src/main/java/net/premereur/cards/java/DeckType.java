@@ -0,0 +1,64 @@
+package net.premereur.cards.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * The available Deck implementations, so that the choice of implementation can be made at run time (for instance from
+ * the command line).
+ */
+enum DeckType {
+    /**
+     * The default, ArrayList based, deck.
+     */
+    INDEXED {
+        @Override
+        <Card> ResettableDeck<Card> create(final Collection<Card> cards) {
+            return new IndexedDeck<>(cards);
+        }
+    },
+    /**
+     * A deck that is cheap to deal from either end.
+     */
+    RING_BUFFER {
+        @Override
+        <Card> ResettableDeck<Card> create(final Collection<Card> cards) {
+            return new RingBufferDeck<>(cards);
+        }
+    },
+    /**
+     * A shoe holding the ordinals of the cards. The palette holds the distinct cards, and the cards must hold every one
+     * of them equally often: that is the number of decks the shoe is refilled with.
+     */
+    SHOE {
+        @Override
+        <Card> ResettableDeck<Card> create(final Collection<Card> cards) {
+            final CardPalette<Card> palette = new CardPalette<>(new ArrayList<>(new LinkedHashSet<>(cards)));
+            final int numDecks = palette.size() == 0 ? 0 : cards.size() / palette.size();
+            final Shoe<Card> shoe = new Shoe<>(palette, numDecks);
+            shoe.resetTo(new ArrayList<>(cards));
+            for (int ordinal = 0; ordinal < palette.size(); ++ordinal) {
+                if (shoe.countOrdinal(ordinal) != numDecks) {
+                    throw new IllegalArgumentException("A shoe holds every card " + numDecks + " times, not " +
+                            shoe.countOrdinal(ordinal) + " times: " + palette.card(ordinal));
+                }
+            }
+            return shoe;
+        }
+    },
+    /**
+     * A deck for dealers that take cards from arbitrary positions, like the Trickster.
+     */
+    FENWICK {
+        @Override
+        <Card> ResettableDeck<Card> create(final Collection<Card> cards) {
+            return new FenwickDeck<>(new ArrayList<>(cards));
+        }
+    };
+
+    /**
+     * Creates a deck that holds the given cards, in the same order.
+     */
+    abstract <Card> ResettableDeck<Card> create(Collection<Card> cards);
+}
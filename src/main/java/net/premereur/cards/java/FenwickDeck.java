@@ -0,0 +1,156 @@
+package net.premereur.cards.java;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Deck for dealers that take cards from arbitrary positions. The cards stay in the slot of a fixed array they were put
+ * in; removing one just empties its slot. A Fenwick tree over the occupied slots finds the slot of any position, so
+ * removeNth, peek and swap take O(log n) instead of moving up to n cards.
+ * <p>
+ * Inserting takes O(log n) as long as there is an empty slot between the neighbours of the new card, which is always the
+ * case for cards that are put back where they were dealt from. Otherwise the deck is compacted in O(n).
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class FenwickDeck<Card> implements ResettableDeck<Card> {
+    private Object[] slots;
+    private int[] occupied; // 1 for an occupied slot, 0 for an empty one
+    private FenwickTree tree;
+    private int size;
+
+    public FenwickDeck() {
+        this(Arrays.<Card>asList());
+    }
+
+    public FenwickDeck(final List<Card> cards) {
+        allocate(cards.size());
+        resetTo(cards);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gives the current position of the card that was at the given position when the deck was last reset or
+     * compacted, which is what tells the cards apart after they have been dealt from arbitrary positions.
+     *
+     * @return the position, or -1 if the card has been removed since
+     */
+    public int positionOfSlot(final int slot) {
+        if (slot < 0 || slot >= slots.length) {
+            throw new IndexOutOfBoundsException("Slot: " + slot + ", Capacity: " + slots.length);
+        }
+        return occupied[slot] == 0 ? -1 : tree.prefixSum(slot);
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        final int slot = slotOf(n);
+        final Card card = cardIn(slot);
+        slots[slot] = null;
+        occupied[slot] = 0;
+        tree.add(slot, -1);
+        size -= 1;
+        return card;
+    }
+
+    @Override
+    public void insertNth(final int n, final Card card) {
+        checkIndex(n, size + 1);
+        final int previous = n == 0 ? -1 : tree.indexOfRank(n - 1);
+        final int next = n == size ? slots.length : tree.indexOfRank(n);
+        if (next - previous > 1) {
+            put(previous + 1, card);
+        } else {
+            compact(size + 1);
+            for (int slot = size; slot > n; --slot) {
+                slots[slot] = slots[slot - 1];
+                occupied[slot] = occupied[slot - 1];
+            }
+            slots[n] = card;
+            occupied[n] = 1;
+            size += 1;
+            tree.resetTo(occupied);
+        }
+    }
+
+    @Override
+    public Card peek(final int n) {
+        return cardIn(slotOf(n));
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        final int slotI = slotOf(i);
+        final int slotJ = slotOf(j);
+        final Object card = slots[slotI];
+        slots[slotI] = slots[slotJ];
+        slots[slotJ] = card;
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        if (template.size() > slots.length) {
+            allocate(template.size());
+        }
+        for (int i = 0; i < slots.length; ++i) {
+            slots[i] = i < template.size() ? template.get(i) : null;
+            occupied[i] = i < template.size() ? 1 : 0;
+        }
+        size = template.size();
+        tree.resetTo(occupied);
+    }
+
+    private void put(final int slot, final Card card) {
+        slots[slot] = card;
+        occupied[slot] = 1;
+        tree.add(slot, 1);
+        size += 1;
+    }
+
+    /**
+     * Moves the cards to the first slots, keeping their order, in an array that can hold at least minCapacity cards.
+     * The empty slots all end up after the cards, so the tree is left for the caller to rebuild.
+     */
+    private void compact(final int minCapacity) {
+        final Object[] cards = new Object[size];
+        for (int slot = 0, n = 0; n < size; ++slot) {
+            if (occupied[slot] == 1) {
+                cards[n++] = slots[slot];
+            }
+        }
+        if (minCapacity > slots.length) {
+            allocate(Math.max(minCapacity, 2 * slots.length));
+        }
+        System.arraycopy(cards, 0, slots, 0, size);
+        Arrays.fill(slots, size, slots.length, null);
+        Arrays.fill(occupied, 0, size, 1);
+        Arrays.fill(occupied, size, occupied.length, 0);
+    }
+
+    private void allocate(final int capacity) {
+        final int actualCapacity = Math.max(8, capacity);
+        slots = new Object[actualCapacity];
+        occupied = new int[actualCapacity];
+        tree = new FenwickTree(actualCapacity);
+    }
+
+    private int slotOf(final int n) {
+        checkIndex(n, size);
+        return tree.indexOfRank(n);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Card cardIn(final int slot) {
+        return (Card) slots[slot];
+    }
+
+    private static void checkIndex(final int n, final int limit) {
+        if (n < 0 || n >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + limit);
+        }
+    }
+}
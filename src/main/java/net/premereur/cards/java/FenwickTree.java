@@ -0,0 +1,68 @@
+package net.premereur.cards.java;
+
+/**
+ * A Fenwick (binary indexed) tree over a fixed number of non-negative counts. Changing a count, summing a prefix and
+ * finding the index that holds a given rank all take O(log n).
+ */
+final class FenwickTree {
+    private final int[] tree; // 1-based: tree[i] holds the sum of the counts in (i - lowestOneBit(i), i]
+    private final int highestStep;
+
+    FenwickTree(final int size) {
+        this.tree = new int[size + 1];
+        this.highestStep = Integer.highestOneBit(Math.max(1, size));
+    }
+
+    int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Replaces all counts in O(n).
+     */
+    void resetTo(final int[] counts) {
+        if (counts.length != size()) {
+            throw new IllegalArgumentException("Expected " + size() + " counts, got " + counts.length);
+        }
+        System.arraycopy(counts, 0, tree, 1, counts.length);
+        for (int i = 1; i < tree.length; ++i) {
+            final int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    void add(final int index, final int delta) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * @return the sum of the counts at the indices below until
+     */
+    int prefixSum(final int until) {
+        int sum = 0;
+        for (int i = until; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the index holding the item of the given rank, when every index holds as many items as its count, in index
+     * order. The rank must be less than the total of the counts.
+     */
+    int indexOfRank(int rank) {
+        int position = 0;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            final int next = position + step;
+            if (next < tree.length && tree[next] <= rank) {
+                position = next;
+                rank -= tree[next];
+            }
+        }
+        return position;
+    }
+}
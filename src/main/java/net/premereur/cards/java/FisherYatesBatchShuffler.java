@@ -0,0 +1,63 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+
+/**
+ * A BatchShuffler that thoroughly shuffles every deck (any card is equally likely to end up at a given place). The
+ * random swap targets for a deck are generated in bulk before the swaps are done. Besides lists of decks, it can
+ * shuffle a matrix of card ordinals laid out as consecutive decks in one int array.
+ * <p>
+ * The shuffler keeps a scratch buffer, so it is not thread-safe: use one per thread.
+ *
+ * @param <Card> The type of cards in the decks
+ */
+public class FisherYatesBatchShuffler<Card> implements BatchShuffler<Card> {
+    private final RandomSource random;
+    private int[] targets = new int[0];
+
+    public FisherYatesBatchShuffler() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
+
+    public FisherYatesBatchShuffler(final RandomSource random) {
+        this.random = random;
+    }
+
+    @Override
+    public void shuffleAll(final List<? extends Deck<Card>> decks) {
+        for (int d = 0; d < decks.size(); ++d) {
+            final Deck<Card> deck = decks.get(d);
+            final int numCards = deck.size();
+            fillTargets(numCards);
+            for (int i = numCards - 1; i > 0; --i) {
+                deck.swap(i, targets[i]);
+            }
+        }
+    }
+
+    /**
+     * Shuffles each of the decks in a matrix of card ordinals. Deck k occupies the positions [k * deckSize, (k + 1) *
+     * deckSize) of the array.
+     */
+    public void shuffleMatrix(final int[] decks, final int deckSize) {
+        if (deckSize <= 0 || decks.length % deckSize != 0) {
+            throw new IllegalArgumentException("The matrix of length " + decks.length + " does not hold decks of " + deckSize);
+        }
+        for (int offset = 0; offset < decks.length; offset += deckSize) {
+            fillTargets(deckSize);
+            for (int i = deckSize - 1; i > 0; --i) {
+                final int j = offset + targets[i];
+                final int tmp = decks[offset + i];
+                decks[offset + i] = decks[j];
+                decks[j] = tmp;
+            }
+        }
+    }
+
+    private void fillTargets(final int numCards) {
+        if (targets.length < numCards) {
+            targets = new int[numCards];
+        }
+        BoundedRandom.fillSwapTargets(random, targets, numCards);
+    }
+}
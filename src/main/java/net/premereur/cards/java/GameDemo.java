@@ -1,7 +1,11 @@
 package net.premereur.cards.java;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -17,12 +21,26 @@ public class GameDemo {
      */
     interface CompleteDealGame<Card> {
         List<List<Card>> dealAll(Deck<Card> deck);
+
+        /**
+         * Deals all cards like dealAll, but returns every hand as a set of ordinals in the palette. The default packs the
+         * hands dealAll returns; games override it to deal straight into the sets.
+         */
+        default List<CardSet> dealAllPacked(final Deck<Card> deck, final CardPalette<Card> palette) {
+            final List<List<Card>> hands = dealAll(deck);
+            final List<CardSet> packedHands = new ArrayList<>(hands.size());
+            for (final List<Card> hand : hands) {
+                packedHands.add(CardSet.of(palette, hand));
+            }
+            return packedHands;
+        }
     }
 
     /**
-     * The classical French cards.
+     * The classical French cards. There is exactly one instance of every card, and every card has a stable ordinal:
+     * suit * 13 + value, so that decks and hands can be stored as small integers.
      */
-    static class FrenchCard {
+    static final class FrenchCard {
         @SuppressWarnings("unused")
         enum Suit {
             Harts, Diamonds, Spades, Clubs
@@ -33,28 +51,76 @@ public class GameDemo {
             Ace, Two, Three, Four, Five, Six, Seven, Eight, Nine, Ten, Jack, Queen, King
         }
 
-        private Suit suit;
-        private Value value;
+        static final int NUM_SUITS = Suit.values().length;
+        static final int NUM_VALUES = Value.values().length;
+
+        private static final FrenchCard[] CARDS = new FrenchCard[NUM_SUITS * NUM_VALUES];
+
+        static {
+            for (final Suit suit : Suit.values()) {
+                for (final Value value : Value.values()) {
+                    final FrenchCard card = new FrenchCard(suit, value);
+                    CARDS[card.ordinal] = card;
+                }
+            }
+        }
+
+        private final Suit suit;
+        private final Value value;
+        private final int ordinal;
+        private final String name;
 
         private FrenchCard(final Suit suit, final Value value) {
             this.suit = suit;
             this.value = value;
+            this.ordinal = suit.ordinal() * NUM_VALUES + value.ordinal();
+            this.name = "[" + suit + ", " + value + ']';
+        }
+
+        static FrenchCard of(final Suit suit, final Value value) {
+            return CARDS[suit.ordinal() * NUM_VALUES + value.ordinal()];
+        }
+
+        static FrenchCard fromOrdinal(final int ordinal) {
+            return CARDS[ordinal]; // Throw if need be
+        }
+
+        /**
+         * @return the mask selecting the cards of the suit in a hand packed by card ordinal
+         */
+        static long suitMask(final Suit suit) {
+            return LongCardSet.mask(NUM_VALUES) << (suit.ordinal() * NUM_VALUES);
+        }
+
+        Suit suit() {
+            return suit;
+        }
+
+        Value value() {
+            return value;
+        }
+
+        int ordinal() {
+            return ordinal;
         }
 
         // No need for equals and hashcode as we construct only one instance of Card (and block the constructor).
 
         @Override
         public String toString() {
-            return "[" + suit + ", " + value + ']';
+            return name;
         }
     }
 
     /**
-     * All the cards as a convenient list.
+     * All the cards as a convenient list, in ordinal order.
+     */
+    public static final List<FrenchCard> allCards = Collections.unmodifiableList(Arrays.asList(FrenchCard.CARDS));
+
+    /**
+     * The palette of all cards. The palette ordinal of a card is its own ordinal.
      */
-    public static final List<FrenchCard> allCards =
-            stream(FrenchCard.Suit.values()).flatMap(suit -> stream(FrenchCard.Value.values()).map(value -> new FrenchCard(suit, value)))
-                    .collect(Collectors.toList());
+    public static final CardPalette<FrenchCard> allCardsPalette = new CardPalette<>(allCards);
 
     /**
      * A dealer strategy implementation that always deals the card on the top of the deck.
@@ -66,42 +132,61 @@ public class GameDemo {
         public Card deal(final Deck<Card> deck) {
             return deck.removeLast();
         }
+
+        @Override
+        public void dealMany(final Deck<Card> deck, final int n, final Card[] sink, final int offset) {
+            deck.removeRange(deck.size() - n, deck.size(), sink, offset);
+            // The top card is the last one in the range, but it has to be dealt first
+            for (int i = offset, j = offset + n - 1; i < j; ++i, --j) {
+                final Card tmp = sink[i];
+                sink[i] = sink[j];
+                sink[j] = tmp;
+            }
+        }
     }
 
     /**
-     * A shuffler strategy that shuffles the deck so that any card is equally likely to end up at a given place.
+     * A shuffler strategy that shuffles the deck so that any card is equally likely to end up at a given place. Uses a
+     * thread-local random generator unless a (seeded) RandomSource is given.
      *
      * @param <Card> The type of card in the deck
      */
     static class DeepShuffler<Card> implements Shuffler<Card> {
+        private final RandomSource random;
+
+        DeepShuffler() {
+            this(ThreadLocalRandomSource.INSTANCE);
+        }
+
+        DeepShuffler(final RandomSource random) {
+            this.random = random;
+        }
+
         @Override
         public void shuffle(final Deck<Card> deck) {
             for (int i = 0; i < deck.size() - 1; ++i) {
-                deck.swap(i, random(i, deck.size()));
+                deck.swap(i, BoundedRandom.nextInt(random, i, deck.size()));
             }
 
         }
-
-        private int random(final int lower, final int limit) {
-            return (int) (lower + Math.random() * (limit - lower));
-        }
     }
 
     /**
-     * A helper function that deals numDeals times and collects the result in a list.
+     * A helper function that deals numDeals cards in one go and collects the result in a list. The caller creates the
+     * array the dealer writes to, as dealers may store into it as a Card[].
      */
-    static <Card> List<Card> dealN(Dealer<Card> dealer, Deck<Card> deck, int numDeals) {
-        final List<Card> nextCards = new ArrayList<>();
-        for (int i = 0; i < numDeals; ++i) {
-            nextCards.add(dealer.deal(deck));
-        }
-        return nextCards;
+    static <Card> List<Card> dealN(Dealer<Card> dealer, Deck<Card> deck, int numDeals, IntFunction<Card[]> newArray) {
+        final Card[] nextCards = newArray.apply(numDeals);
+        dealer.dealMany(deck, numDeals, nextCards, 0);
+        return Arrays.asList(nextCards);
     }
 
     /**
      * An implementation of dealing in Wiezen.
      */
     static class Wiezen implements CompleteDealGame<FrenchCard> {
+        private static final int[] NUM_CARDS_PER_ROUND = {4, 5, 4};
+
         private final Dealer<FrenchCard> dealer = new TopDealer<>();
         private final Shuffler<FrenchCard> shuffler;
 
@@ -111,20 +196,100 @@ public class GameDemo {
 
         @Override
         public List<List<FrenchCard>> dealAll(final Deck<FrenchCard> deck) {
-            final int numCardsPerRound[] = {4, 5, 4};
             final List<List<FrenchCard>> hands = new ArrayList<>();
             for (int hand = 0; hand < 4; ++hand) {
                 hands.add(new ArrayList<>());
             }
             shuffler.shuffle(deck);
-            for (final int numCards : numCardsPerRound) {
+            for (final int numCards : NUM_CARDS_PER_ROUND) {
                 for (int handNum = 0; handNum < 4; ++handNum) {
-                    List<FrenchCard> hand = dealN(dealer, deck, numCards);
+                    List<FrenchCard> hand = dealN(dealer, deck, numCards, FrenchCard[]::new);
                     hands.get(handNum).addAll(hand);
                 }
             }
             return hands;
         }
+
+        @Override
+        public List<CardSet> dealAllPacked(final Deck<FrenchCard> deck, final CardPalette<FrenchCard> palette) {
+            final List<CardSet> hands = new ArrayList<>(4);
+            for (int hand = 0; hand < 4; ++hand) {
+                hands.add(CardSet.ofCapacity(palette.size()));
+            }
+            shuffler.shuffle(deck);
+            for (final int numCards : NUM_CARDS_PER_ROUND) {
+                for (int handNum = 0; handNum < 4; ++handNum) {
+                    for (int i = 0; i < numCards; ++i) {
+                        hands.get(handNum).add(palette.ordinal(dealer.deal(deck)));
+                    }
+                }
+            }
+            return hands;
+        }
+    }
+
+    /**
+     * Deals Wiezen like Wiezen does, but straight into a preallocated 4x13 buffer. The packets are dealt in one go
+     * each, to the player and hand position found in the tables of the deal pattern, so that dealing allocates nothing.
+     * The result of dealAll is a view on the buffer, which is overwritten by the next deal; likewise dealAllPacked reuses
+     * its sets as long as the palette size stays the same.
+     */
+    static class BufferedWiezen implements CompleteDealGame<FrenchCard> {
+        private static final DealPattern PATTERN = DealPattern.rounds(4, 4, 5, 4);
+
+        private final Dealer<FrenchCard> dealer = new TopDealer<>();
+        private final Shuffler<FrenchCard> shuffler;
+        private final FrenchCard[][] hands = new FrenchCard[PATTERN.numPlayers()][];
+        private final List<List<FrenchCard>> handsView = new ArrayList<>(PATTERN.numPlayers());
+        private List<CardSet> packedHands = Collections.emptyList();
+
+        public BufferedWiezen(final Shuffler<FrenchCard> shuffler) {
+            this.shuffler = shuffler;
+            for (int player = 0; player < hands.length; ++player) {
+                hands[player] = new FrenchCard[PATTERN.handSize(player)];
+                handsView.add(Collections.unmodifiableList(Arrays.asList(hands[player])));
+            }
+        }
+
+        /**
+         * @return the buffer holding the hands, indexed by player and then by position in the hand
+         */
+        FrenchCard[][] dealInto(final Deck<FrenchCard> deck) {
+            shuffler.shuffle(deck);
+            for (int packet = 0; packet < PATTERN.numPackets(); ++packet) {
+                dealer.dealMany(deck, PATTERN.packetSize(packet), hands[PATTERN.packetPlayer(packet)],
+                        PATTERN.packetOffset(packet));
+            }
+            return hands;
+        }
+
+        @Override
+        public List<List<FrenchCard>> dealAll(final Deck<FrenchCard> deck) {
+            dealInto(deck);
+            return handsView;
+        }
+
+        @Override
+        public List<CardSet> dealAllPacked(final Deck<FrenchCard> deck, final CardPalette<FrenchCard> palette) {
+            if (packedHands.isEmpty() || packedHands.get(0).capacity() != palette.size()) {
+                final List<CardSet> sets = new ArrayList<>(PATTERN.numPlayers());
+                for (int player = 0; player < PATTERN.numPlayers(); ++player) {
+                    sets.add(CardSet.ofCapacity(palette.size()));
+                }
+                packedHands = Collections.unmodifiableList(sets);
+            }
+            for (int player = 0; player < packedHands.size(); ++player) {
+                packedHands.get(player).clear();
+            }
+            shuffler.shuffle(deck);
+            for (int packet = 0; packet < PATTERN.numPackets(); ++packet) {
+                final CardSet hand = packedHands.get(PATTERN.packetPlayer(packet));
+                for (int i = 0; i < PATTERN.packetSize(packet); ++i) {
+                    hand.add(palette.ordinal(dealer.deal(deck)));
+                }
+            }
+            return packedHands;
+        }
     }
 
     /**
@@ -138,17 +303,26 @@ public class GameDemo {
         private int numDeals = 0;
         private int specialPosition = 0;
         private boolean specialWasDealt = false;
+        private final RandomSource random;
+
+        Trickster() {
+            this(ThreadLocalRandomSource.INSTANCE);
+        }
+
+        Trickster(final RandomSource random) {
+            this.random = random;
+        }
 
         @Override
         public FrenchCard deal(final Deck<FrenchCard> deck) {
             final int dealPosition;
             numDeals += 1;
             // give it an (almost) equal chance that the special card is dealt in every turn until the limit
-            if (!specialWasDealt && Math.random() < 1. * numDeals / limit) {
+            if (!specialWasDealt && random.nextDouble() < 1. * numDeals / limit) {
                 dealPosition = specialPosition;
                 specialWasDealt = true;
             } else {
-                dealPosition = (int) (Math.random() * deck.size());
+                dealPosition = random.nextInt(deck.size());
                 if (dealPosition < specialPosition) {
                     specialPosition -= 1;
                 } else if (dealPosition == specialPosition) {
@@ -166,16 +340,12 @@ public class GameDemo {
             // There is a 1 in (52*52) chance that the last card is the special one and that it remains there.
             specialPosition = 51;
             for (int i = 0; i < deck.size() - 1; ++i) {
-                deck.swap(i, random(i, deck.size()));
+                deck.swap(i, BoundedRandom.nextInt(random, i, deck.size()));
                 if (deck.peek(i) == specialCard) {
                     specialPosition = i;
                 }
             }
         }
-
-        private int random(final int lower, final int limit) {
-            return (int) (lower + Math.random() * (limit - lower));
-        }
     }
 
     /**
@@ -194,16 +364,18 @@ public class GameDemo {
         public List<List<FrenchCard>> dealAll(final Deck<FrenchCard> deck) {
             shuffler.shuffle(deck);
             final ArrayList<List<FrenchCard>> hands = new ArrayList<>();
-            hands.add(dealN(dealer, deck, allCards.size()));
+            hands.add(dealN(dealer, deck, allCards.size(), FrenchCard[]::new));
             return hands;
         }
     }
 
     /**
-     * Helper to show the hands in a CompleteDealGame. (Guava would have been helpful).
+     * Helper to show the hands in a CompleteDealGame. (Guava would have been helpful). The deck is reset to the sorted
+     * deck before every game, so the same deck can be used over and over again.
      */
-    private static void showHands(final CompleteDealGame<FrenchCard> game) {
-        final List<List<FrenchCard>> hands = game.dealAll(new IndexedDeck<>(allCards));
+    private static void showHands(final CompleteDealGame<FrenchCard> game, final ResettableDeck<FrenchCard> deck) {
+        deck.resetTo(allCards);
+        final List<List<FrenchCard>> hands = game.dealAll(deck);
         for (final List<FrenchCard> hand : hands) {
             for (final FrenchCard card : hand) {
                 System.out.print(card.toString() + " ");
@@ -213,26 +385,87 @@ public class GameDemo {
         System.out.println();
     }
 
+    /**
+     * Helper that deals a game many times on all cores and returns the fraction of deals where the ace of harts is among
+     * the first four cards. For a fair game that should be 4 in 52.
+     */
+    private static double simulateSpecialCardInFirstFour(final Function<RandomSource, CompleteDealGame<FrenchCard>> game) {
+        final FrenchCard specialCard = allCards.get(0);
+        return new DealSimulationEngine<>(game, allCards).run(100000, 1,
+                Collectors.averagingInt(hands -> hands.get(0).subList(0, 4).contains(specialCard) ? 1 : 0));
+    }
+
+    /**
+     * Streams Wiezen deals in parallel without keeping them around, and gives the fraction in which the first player
+     * has the ace of harts.
+     */
+    private static double streamFirstPlayerHasSpecialCard() {
+        final FrenchCard specialCard = allCards.get(0);
+        final long numDeals = 100000;
+        final long count = DealSpliterator.<FrenchCard>deals(random -> new Wiezen(new DeepShuffler<>(random)), allCards,
+                numDeals, 1).parallel().filter(hands -> hands.get(0).contains(specialCard)).count();
+        return (double) count / numDeals;
+    }
+
+    /**
+     * Runs the demo games. The first argument optionally selects the deck implementation (one of the DeckType names).
+     */
     public static void main(String[] args) {
+        final DeckType deckType = args.length > 0 ? DeckType.valueOf(args[0]) : DeckType.INDEXED;
         final Shuffler<FrenchCard> deepShuffler = new DeepShuffler<>();
         final CompleteDealGame<FrenchCard> wiezen = new Wiezen(deepShuffler);
+        final CompleteDealGame<FrenchCard> riffledWiezen = new Wiezen(new RiffleShuffler<>());
 
         final CompleteDealGame<FrenchCard> bonaFide = new PickGame(new TopDealer<>(), deepShuffler);
         final Trickster trickster = new Trickster();
         final CompleteDealGame<FrenchCard> tricky = new PickGame(trickster, trickster);
+        final ResettableDeck<FrenchCard> deck = deckType.create(allCards);
 
         System.out.println("====== wiezen ======");
         for (int i = 0; i < 3; ++i) {
-            showHands(wiezen);
+            showHands(wiezen, deck);
+        }
+        System.out.println("====== riffled wiezen ======");
+        for (int i = 0; i < 3; ++i) {
+            showHands(riffledWiezen, deck);
+        }
+        System.out.println("====== packed wiezen ======");
+        for (int i = 0; i < 3; ++i) {
+            deck.resetTo(allCards);
+            for (final CardSet hand : wiezen.dealAllPacked(deck, allCardsPalette)) {
+                System.out.print(stream(FrenchCard.Suit.values())
+                        .map(suit -> suit + ": " + hand.count(FrenchCard.suitMask(suit)))
+                        .collect(Collectors.joining(", ", "[", "] ")));
+            }
+            System.out.println();
         }
         System.out.println("====== bona fide ======");
         for (int i = 0; i < 3; ++i) {
-            showHands(bonaFide);
+            showHands(bonaFide, deck);
         }
         System.out.println("====== tricky ======");
         for (int i = 0; i < 5; ++i) {
-            showHands(tricky);
+            showHands(tricky, deck);
+        }
+        System.out.println("====== lazy ======");
+        final LazyShuffler<FrenchCard> lazyShuffler = new LazyShuffler<>();
+        final CompleteDealGame<FrenchCard> lazy = new PickGame(lazyShuffler, lazyShuffler);
+        for (int i = 0; i < 3; ++i) {
+            showHands(lazy, deck);
         }
+        final Shoe<FrenchCard> shoe = new Shoe<>(allCardsPalette, 8);
+        lazyShuffler.shuffle(shoe);
+        System.out.println("Two cards from an 8-deck shoe: " + dealN(lazyShuffler, shoe, 2, FrenchCard[]::new));
+        System.out.println("====== simulation ======");
+        System.out.println("Ace of harts in the first four cards, bona fide: " +
+                simulateSpecialCardInFirstFour(random -> new PickGame(new TopDealer<>(), new DeepShuffler<>(random))));
+        System.out.println("Ace of harts in the first four cards, tricky: " +
+                simulateSpecialCardInFirstFour(random -> {
+                    final Trickster simulatedTrickster = new Trickster(random);
+                    return new PickGame(simulatedTrickster, simulatedTrickster);
+                }));
+        System.out.println("====== streaming ======");
+        System.out.println("Ace of harts with the first wiezen player: " + streamFirstPlayerHasSpecialCard());
     }
 }
 
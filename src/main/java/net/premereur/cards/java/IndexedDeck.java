@@ -2,6 +2,8 @@ package net.premereur.cards.java;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * The default implementation of Deck. It is backed by an ArrayList. I can think of more efficient implementations, but
@@ -9,7 +11,7 @@ import java.util.Collection;
  *
  * @param <Card>
  */
-public class IndexedDeck<Card> implements Deck<Card> {
+public class IndexedDeck<Card> implements ResettableDeck<Card> {
     private ArrayList<Card> cards;
 
     public IndexedDeck() {
@@ -48,4 +50,48 @@ public class IndexedDeck<Card> implements Deck<Card> {
             cards.set(j, tmp);
         }
     }
+
+    @Override
+    public List<Card> removeRange(final int from, final int until) {
+        final List<Card> range = cards.subList(from, until); // Throw if need be
+        final List<Card> removed = new ArrayList<>(range);
+        range.clear();
+        return removed;
+    }
+
+    @Override
+    public void removeRange(final int from, final int until, final Card[] sink, final int offset) {
+        if (from < 0 || until > cards.size() || from > until) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + until + "), Size: " + cards.size());
+        }
+        for (int i = from; i < until; ++i) {
+            sink[offset + i - from] = cards.get(i);
+        }
+        if (until < cards.size()) {
+            cards.subList(from, until).clear(); // Closes the gap with a single shift
+        } else {
+            // Dealing off the top moves no cards, so skip the subList view and deal allocation-free
+            for (int i = until - 1; i >= from; --i) {
+                cards.remove(i);
+            }
+        }
+    }
+
+    @Override
+    public void insertAll(final int n, final List<? extends Card> newCards) {
+        cards.addAll(n, newCards);
+    }
+
+    @Override
+    public void rotate(final int distance) {
+        Collections.rotate(cards, distance);
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        cards.clear(); // keeps the capacity, so no reallocation once the deck has been full
+        for (int i = 0; i < template.size(); ++i) {
+            cards.add(template.get(i));
+        }
+    }
 }
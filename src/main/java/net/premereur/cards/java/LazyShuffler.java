@@ -0,0 +1,38 @@
+package net.premereur.cards.java;
+
+/**
+ * A combined shuffler and dealer that postpones the shuffling until the cards are dealt. Shuffling does nothing; every
+ * deal performs one step of the Fisher-Yates shuffle on the top of the deck: it swaps a random card to the top and deals
+ * it. The cards come out exactly as likely as from a deck that was shuffled in full, but dealing k cards from an n-card
+ * deck costs k steps instead of n, which pays off when dealing a hand or two from a large shoe.
+ * <p>
+ * Only the cards that are dealt get shuffled: the rest of the deck is not in random order, so the deck should be dealt
+ * from with this dealer alone.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class LazyShuffler<Card> implements Dealer<Card>, Shuffler<Card> {
+    private final RandomSource random;
+
+    public LazyShuffler() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
+
+    public LazyShuffler(final RandomSource random) {
+        this.random = random;
+    }
+
+    @Override
+    public void shuffle(final Deck<Card> deck) {
+        // Nothing to do until the first deal
+    }
+
+    @Override
+    public Card deal(final Deck<Card> deck) {
+        final int top = deck.size() - 1;
+        if (top > 0) {
+            deck.swap(random.nextInt(top + 1), top);
+        }
+        return deck.removeLast();
+    }
+}
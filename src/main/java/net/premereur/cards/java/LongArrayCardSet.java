@@ -0,0 +1,125 @@
+package net.premereur.cards.java;
+
+import java.util.Arrays;
+
+/**
+ * A CardSet for palettes of any size, backed by an array of longs. Use CardSet.ofCapacity to get a LongCardSet when
+ * the palette is small enough.
+ */
+public final class LongArrayCardSet implements CardSet {
+    private final int capacity;
+    private final long[] words;
+
+    public LongArrayCardSet(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        this.words = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * @return the bits of ordinals 64 * index until 64 * (index + 1)
+     */
+    public long word(final int index) {
+        return words[index];
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean add(final int ordinal) {
+        checkOrdinal(ordinal);
+        final long bit = 1L << ordinal;
+        final boolean added = (words[ordinal >>> 6] & bit) == 0;
+        words[ordinal >>> 6] |= bit;
+        return added;
+    }
+
+    @Override
+    public boolean remove(final int ordinal) {
+        checkOrdinal(ordinal);
+        final long bit = 1L << ordinal;
+        final boolean removed = (words[ordinal >>> 6] & bit) != 0;
+        words[ordinal >>> 6] &= ~bit;
+        return removed;
+    }
+
+    @Override
+    public boolean contains(final int ordinal) {
+        checkOrdinal(ordinal);
+        return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    @Override
+    public int count(final long mask) {
+        return words.length == 0 ? 0 : Long.bitCount(words[0] & mask);
+    }
+
+    @Override
+    public int nextOrdinal(final int from) {
+        if (from >= capacity) {
+            return -1;
+        }
+        final int start = Math.max(0, from);
+        int index = start >>> 6;
+        long word = words[index] & (-1L << start);
+        while (word == 0) {
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+        return index * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    private void checkOrdinal(final int ordinal) {
+        // The last word may have room for ordinals beyond the capacity
+        if (ordinal < 0 || ordinal >= capacity) {
+            throw new IndexOutOfBoundsException("Ordinal: " + ordinal + ", Capacity: " + capacity);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongArrayCardSet that = (LongArrayCardSet) o;
+        return capacity == that.capacity && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * capacity + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+            builder.append(builder.length() > 1 ? ", " : "").append(ordinal);
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,122 @@
+package net.premereur.cards.java;
+
+/**
+ * A CardSet for palettes of at most 64 cards, backed by a single long. Besides the CardSet operations, the bits can be
+ * combined with masks directly, for instance to count the cards of a suit.
+ */
+public final class LongCardSet implements CardSet {
+    public static final int MAX_CAPACITY = Long.SIZE;
+
+    private final int capacity;
+    private long bits;
+
+    public LongCardSet(final int capacity) {
+        this(capacity, 0L);
+    }
+
+    public LongCardSet(final int capacity, final long bits) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if ((bits & ~mask(capacity)) != 0) {
+            throw new IllegalArgumentException("Bits set beyond capacity " + capacity + ": " + Long.toHexString(bits));
+        }
+        this.capacity = capacity;
+        this.bits = bits;
+    }
+
+    /**
+     * @return a long with the lowest numBits bits set
+     */
+    public static long mask(final int numBits) {
+        return numBits == Long.SIZE ? -1L : (1L << numBits) - 1;
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    @Override
+    public int count(final long mask) {
+        return Long.bitCount(bits & mask);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean add(final int ordinal) {
+        final long bit = bit(ordinal);
+        final boolean added = (bits & bit) == 0;
+        bits |= bit;
+        return added;
+    }
+
+    @Override
+    public boolean remove(final int ordinal) {
+        final long bit = bit(ordinal);
+        final boolean removed = (bits & bit) != 0;
+        bits &= ~bit;
+        return removed;
+    }
+
+    @Override
+    public boolean contains(final int ordinal) {
+        return (bits & bit(ordinal)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    @Override
+    public void clear() {
+        bits = 0L;
+    }
+
+    @Override
+    public int nextOrdinal(final int from) {
+        if (from >= capacity) {
+            return -1;
+        }
+        final long remaining = bits & (-1L << Math.max(0, from));
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private long bit(final int ordinal) {
+        // Shifts are taken modulo 64, so the check is needed even when the capacity is 64
+        if (ordinal < 0 || ordinal >= capacity) {
+            throw new IndexOutOfBoundsException("Ordinal: " + ordinal + ", Capacity: " + capacity);
+        }
+        return 1L << ordinal;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongCardSet that = (LongCardSet) o;
+        return capacity == that.capacity && bits == that.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * capacity + Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+            builder.append(builder.length() > 1 ? ", " : "").append(ordinal);
+        }
+        return builder.append('}').toString();
+    }
+}
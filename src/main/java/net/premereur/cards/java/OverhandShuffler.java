@@ -0,0 +1,46 @@
+package net.premereur.cards.java;
+
+/**
+ * An overhand shuffle: small packets are repeatedly taken from the top of the deck and dropped onto a new pile, which
+ * reverses the order of the packets but not of the cards within them. With larger packets this becomes a strip
+ * shuffle. The packet sizes are uniformly distributed between 1 and twice the mean packet size.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class OverhandShuffler<Card> extends PermutationShuffler<Card> {
+    public static final int DEFAULT_PASSES = 10;
+    public static final int DEFAULT_MEAN_PACKET_SIZE = 4;
+
+    private final int meanPacketSize;
+
+    public OverhandShuffler() {
+        this(ThreadLocalRandomSource.INSTANCE, DEFAULT_PASSES, DEFAULT_MEAN_PACKET_SIZE);
+    }
+
+    public OverhandShuffler(final RandomSource random, final int passes, final int meanPacketSize) {
+        super(random, passes);
+        if (meanPacketSize <= 0) {
+            throw new IllegalArgumentException("meanPacketSize must be positive: " + meanPacketSize);
+        }
+        this.meanPacketSize = meanPacketSize;
+    }
+
+    /**
+     * A strip shuffle: a few passes with packets of about a fifth of the deck.
+     */
+    public static <Card> OverhandShuffler<Card> strip(final RandomSource random, final int deckSize) {
+        return new OverhandShuffler<>(random, 3, Math.max(1, deckSize / 5));
+    }
+
+    @Override
+    protected void pass(final int[] from, final int[] to, final int numCards) {
+        int top = numCards; // the cards in hand are from[0, top)
+        int pile = 0; // the new pile is to[0, pile)
+        while (top > 0) {
+            final int packetSize = Math.min(top, 1 + random.nextInt(2 * meanPacketSize));
+            top -= packetSize;
+            System.arraycopy(from, top, to, pile, packetSize);
+            pile += packetSize;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.premereur.cards.java;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Deck of card ordinals backed by a plain int array. Unlike IndexedDeck nothing is boxed, so shuffling and dealing
+ * through the primitive methods does not allocate. The Deck&lt;Integer&gt; methods are there so that the generic
+ * strategies can work on the ordinals directly; to deal real cards, wrap the deck in a PaletteDeck.
+ */
+public class PackedIntDeck implements ResettableDeck<Integer> {
+    private int[] cards;
+    private int size;
+
+    public PackedIntDeck() {
+        this(new int[0]);
+    }
+
+    public PackedIntDeck(final int[] ordinals) {
+        this.cards = ordinals.clone();
+        this.size = ordinals.length;
+    }
+
+    /**
+     * Creates a deck that holds the ordinals 0 (bottom) until numCards (top) in order.
+     */
+    public static PackedIntDeck ofSize(final int numCards) {
+        final PackedIntDeck deck = new PackedIntDeck();
+        deck.resetToOrdinals(numCards);
+        return deck;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int removeNthInt(final int n) {
+        checkIndex(n, size);
+        final int card = cards[n];
+        System.arraycopy(cards, n + 1, cards, n, size - n - 1);
+        size -= 1;
+        return card;
+    }
+
+    public void insertNthInt(final int n, final int card) {
+        checkIndex(n, size + 1);
+        ensureCapacity(Math.max(8, size + 1));
+        System.arraycopy(cards, n, cards, n + 1, size - n);
+        cards[n] = card;
+        size += 1;
+    }
+
+    /**
+     * Removes the ordinals from position from (inclusive) until position until (exclusive) and writes them to sink,
+     * starting at offset.
+     */
+    public void removeRangeInt(final int from, final int until, final int[] sink, final int offset) {
+        checkRange(from, until);
+        System.arraycopy(cards, from, sink, offset, until - from);
+        removeRangeInt(from, until);
+    }
+
+    /**
+     * Removes the ordinals from position from (inclusive) until position until (exclusive).
+     */
+    public void removeRangeInt(final int from, final int until) {
+        checkRange(from, until);
+        System.arraycopy(cards, until, cards, from, size - until);
+        size -= until - from;
+    }
+
+    public int peekInt(final int n) {
+        checkIndex(n, size);
+        return cards[n];
+    }
+
+    @Override
+    public Integer removeNth(final int n) {
+        return removeNthInt(n);
+    }
+
+    @Override
+    public void insertNth(final int n, final Integer card) {
+        insertNthInt(n, card);
+    }
+
+    @Override
+    public Integer peek(final int n) {
+        return peekInt(n);
+    }
+
+    @Override
+    public void removeRange(final int from, final int until, final Integer[] sink, final int offset) {
+        checkRange(from, until);
+        for (int i = from; i < until; ++i) {
+            sink[offset + i - from] = cards[i];
+        }
+        removeRangeInt(from, until);
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        checkIndex(i, size);
+        checkIndex(j, size);
+        final int tmp = cards[i];
+        cards[i] = cards[j];
+        cards[j] = tmp;
+    }
+
+    @Override
+    public void resetTo(final List<Integer> template) {
+        ensureCapacity(template.size());
+        for (int i = 0; i < template.size(); ++i) {
+            cards[i] = template.get(i);
+        }
+        size = template.size();
+    }
+
+    public void resetTo(final int[] template) {
+        ensureCapacity(template.length);
+        System.arraycopy(template, 0, cards, 0, template.length);
+        size = template.length;
+    }
+
+    public void resetTo(final PackedIntDeck template) {
+        ensureCapacity(template.size);
+        System.arraycopy(template.cards, 0, cards, 0, template.size);
+        size = template.size;
+    }
+
+    /**
+     * Resets the deck to the ordinals 0 (bottom) until numCards (top) in order.
+     */
+    public void resetToOrdinals(final int numCards) {
+        ensureCapacity(numCards);
+        for (int i = 0; i < numCards; ++i) {
+            cards[i] = i;
+        }
+        size = numCards;
+    }
+
+    /**
+     * Removes all cards, but keeps the storage around for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > cards.length) {
+            cards = Arrays.copyOf(cards, Math.max(capacity, 2 * cards.length));
+        }
+    }
+
+    private void checkRange(final int from, final int until) {
+        if (from < 0 || until > size || from > until) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + until + "), Size: " + size);
+        }
+    }
+
+    private static void checkIndex(final int n, final int limit) {
+        // The backing array is usually larger than the deck, so we cannot rely on the JVM's own check
+        if (n < 0 || n >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + limit);
+        }
+    }
+}
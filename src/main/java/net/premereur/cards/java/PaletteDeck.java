@@ -0,0 +1,87 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+
+/**
+ * A typed view on a PackedIntDeck. The deck only stores ordinals; the cards are looked up in a (shared) palette when
+ * they are dealt or peeked at. As the palette holds the only instances of the cards, strategies like DeepShuffler and
+ * TopDealer run without allocating anything.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class PaletteDeck<Card> implements ResettableDeck<Card> {
+    private final CardPalette<Card> palette;
+    private final PackedIntDeck ordinals;
+
+    /**
+     * Creates a deck containing all the cards of the palette, in palette order.
+     */
+    public PaletteDeck(final CardPalette<Card> palette) {
+        this(palette, PackedIntDeck.ofSize(palette.size()));
+    }
+
+    public PaletteDeck(final CardPalette<Card> palette, final PackedIntDeck ordinals) {
+        this.palette = palette;
+        this.ordinals = ordinals;
+    }
+
+    public CardPalette<Card> palette() {
+        return palette;
+    }
+
+    /**
+     * Gives access to the underlying ordinals. Changes to either deck are visible in the other.
+     */
+    public PackedIntDeck ordinals() {
+        return ordinals;
+    }
+
+    @Override
+    public int size() {
+        return ordinals.size();
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        return palette.card(ordinals.removeNthInt(n));
+    }
+
+    @Override
+    public void insertNth(final int n, final Card card) {
+        ordinals.insertNthInt(n, palette.ordinal(card));
+    }
+
+    @Override
+    public Card peek(final int n) {
+        return palette.card(ordinals.peekInt(n));
+    }
+
+    @Override
+    public void removeRange(final int from, final int until, final Card[] sink, final int offset) {
+        for (int i = from; i < until; ++i) {
+            sink[offset + i - from] = palette.card(ordinals.peekInt(i)); // Throw if need be
+        }
+        ordinals.removeRangeInt(from, until);
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        ordinals.swap(i, j);
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        palette.checkContainsAll(template);
+        ordinals.clear();
+        for (int i = 0; i < template.size(); ++i) {
+            ordinals.insertNthInt(i, palette.ordinal(template.get(i)));
+        }
+    }
+
+    /**
+     * Puts all the cards of the palette back in the deck, in palette order.
+     */
+    public void reset() {
+        ordinals.resetToOrdinals(palette.size());
+    }
+}
@@ -0,0 +1,83 @@
+package net.premereur.cards.java;
+
+/**
+ * Base class for shufflers that mimic physical shuffles. Such a shuffle consists of a number of passes that each move
+ * whole packets of cards. The passes work on an array of card positions, where they can move packets with
+ * System.arraycopy; only the final permutation is applied to the deck, with at most one swap per card. Every pass is
+ * thus O(n), whatever the Deck implementation.
+ * <p>
+ * The shufflers keep scratch arrays, so they are not thread-safe: use one per thread.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+abstract class PermutationShuffler<Card> implements Shuffler<Card> {
+    protected final RandomSource random;
+    private final int passes;
+    private int[] positions = new int[0];
+    private int[] scratch = new int[0];
+
+    protected PermutationShuffler(final RandomSource random, final int passes) {
+        if (passes < 0) {
+            throw new IllegalArgumentException("passes must not be negative: " + passes);
+        }
+        this.random = random;
+        this.passes = passes;
+    }
+
+    /**
+     * Performs one pass of the shuffle: fills to[0, numCards) with a rearrangement of from[0, numCards). Position 0 is
+     * the bottom of the deck, position numCards - 1 the top.
+     */
+    protected abstract void pass(int[] from, int[] to, int numCards);
+
+    @Override
+    public void shuffle(final Deck<Card> deck) {
+        final int numCards = deck.size();
+        if (positions.length < numCards) {
+            positions = new int[numCards];
+            scratch = new int[numCards];
+        }
+        for (int i = 0; i < numCards; ++i) {
+            positions[i] = i;
+        }
+        for (int p = 0; p < passes; ++p) {
+            pass(positions, scratch, numCards);
+            final int[] tmp = positions;
+            positions = scratch;
+            scratch = tmp;
+        }
+        applyTo(deck, numCards);
+    }
+
+    /**
+     * Rearranges the deck so that position i holds the card that was at positions[i], following the cycles of the
+     * permutation. The positions are reset to the identity on the way to mark them as done.
+     */
+    private void applyTo(final Deck<Card> deck, final int numCards) {
+        for (int start = 0; start < numCards; ++start) {
+            int i = start;
+            while (positions[i] != start) {
+                final int source = positions[i];
+                deck.swap(i, source);
+                positions[i] = i;
+                i = source;
+            }
+            positions[i] = i;
+        }
+    }
+
+    /**
+     * @return a random number of cards with a Binomial(numCards, 1/2) distribution, counted as the ones in random bits
+     */
+    protected int binomialHalf(final int numCards) {
+        int count = 0;
+        int remaining = numCards;
+        for (; remaining >= 64; remaining -= 64) {
+            count += Long.bitCount(random.nextLong());
+        }
+        if (remaining > 0) {
+            count += Long.bitCount(random.nextLong() >>> (64 - remaining));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,24 @@
+package net.premereur.cards.java;
+
+/**
+ * A dealer strategy that deals a card from a random position in the deck. On an unshuffled deck it deals the same
+ * sequences as dealing from the top of a shuffled one, and it is the natural dealer for a CountingDeck.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class RandomDealer<Card> implements Dealer<Card> {
+    private final RandomSource random;
+
+    public RandomDealer() {
+        this(ThreadLocalRandomSource.INSTANCE);
+    }
+
+    public RandomDealer(final RandomSource random) {
+        this.random = random;
+    }
+
+    @Override
+    public Card deal(final Deck<Card> deck) {
+        return deck.removeNth(random.nextInt(deck.size()));
+    }
+}
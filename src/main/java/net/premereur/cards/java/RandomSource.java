@@ -0,0 +1,32 @@
+package net.premereur.cards.java;
+
+/**
+ * A source of random numbers for the shuffling and dealing strategies. Unlike Math.random(), implementations can be
+ * seeded (for reproducible runs) and need not share state between threads (for parallel runs). Implementations are not
+ * required to be thread-safe unless stated otherwise.
+ */
+public interface RandomSource {
+    /**
+     * @return 32 random bits
+     */
+    int nextInt();
+
+    /**
+     * @return 64 random bits
+     */
+    long nextLong();
+
+    /**
+     * @return a uniformly distributed int in [0, bound)
+     */
+    default int nextInt(final int bound) {
+        return BoundedRandom.nextInt(this, bound);
+    }
+
+    /**
+     * @return a uniformly distributed double in [0, 1)
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
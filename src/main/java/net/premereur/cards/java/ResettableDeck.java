@@ -0,0 +1,17 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+
+/**
+ * A Deck that can be brought back to a known order without creating a new deck. Simulations that deal many games can
+ * then keep a single deck (per thread) and reset it before every game instead of copying the card list each time.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+interface ResettableDeck<Card> extends Deck<Card> {
+    /**
+     * Replaces the contents of the deck with the given cards, in the same order. The template itself is not modified
+     * nor retained.
+     */
+    void resetTo(List<Card> template);
+}
@@ -0,0 +1,40 @@
+package net.premereur.cards.java;
+
+/**
+ * A riffle shuffle according to the Gilbert-Shannon-Reeds model: the deck is cut in two packets with a binomially
+ * distributed size, after which the cards drop from either packet with a probability proportional to the number of
+ * cards left in that packet. Seven riffles are famously enough to mix a deck of 52 cards.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class RiffleShuffler<Card> extends PermutationShuffler<Card> {
+    public static final int DEFAULT_RIFFLES = 7;
+
+    public RiffleShuffler() {
+        this(ThreadLocalRandomSource.INSTANCE, DEFAULT_RIFFLES);
+    }
+
+    public RiffleShuffler(final RandomSource random, final int riffles) {
+        super(random, riffles);
+    }
+
+    @Override
+    protected void pass(final int[] from, final int[] to, final int numCards) {
+        final int cut = binomialHalf(numCards);
+        int left = 0; // the next card of the bottom packet
+        int right = cut; // the next card of the top packet
+        int next = 0;
+        while (left < cut && right < numCards) {
+            final int leftRemaining = cut - left;
+            if (random.nextInt(leftRemaining + numCards - right) < leftRemaining) {
+                to[next++] = from[left++];
+            } else {
+                to[next++] = from[right++];
+            }
+        }
+        // One of the packets is exhausted: the rest of the other one drops as a block
+        System.arraycopy(from, left, to, next, cut - left);
+        next += cut - left;
+        System.arraycopy(from, right, to, next, numCards - right);
+    }
+}
@@ -0,0 +1,145 @@
+package net.premereur.cards.java;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A Deck backed by a circular buffer. Cards can be removed and inserted at both ends in constant time, so dealing from
+ * the bottom is as cheap as dealing from the top. Removing or inserting elsewhere moves the cards on the shortest side
+ * of the position, which is at most half of the deck.
+ *
+ * @param <Card> The type of cards in the deck
+ */
+public class RingBufferDeck<Card> implements ResettableDeck<Card> {
+    private Object[] cards;
+    private int mask;
+    private int head = 0;
+    private int size = 0;
+
+    public RingBufferDeck() {
+        this(8);
+    }
+
+    public RingBufferDeck(final Collection<Card> cards) {
+        this(cards.size());
+        for (final Card card : cards) {
+            this.cards[size++] = card;
+        }
+    }
+
+    private RingBufferDeck(final int minCapacity) {
+        allocate(minCapacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        checkIndex(n, size);
+        final Card card = cardAt(n);
+        if (n < size / 2) {
+            for (int i = n; i > 0; --i) {
+                cards[index(i)] = cards[index(i - 1)];
+            }
+            cards[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = n; i < size - 1; ++i) {
+                cards[index(i)] = cards[index(i + 1)];
+            }
+            cards[index(size - 1)] = null;
+        }
+        size -= 1;
+        return card;
+    }
+
+    @Override
+    public void insertNth(final int n, final Card card) {
+        checkIndex(n, size + 1);
+        if (size == cards.length) {
+            grow();
+        }
+        if (n < size / 2) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < n; ++i) {
+                cards[index(i)] = cards[index(i + 1)];
+            }
+        } else {
+            for (int i = size; i > n; --i) {
+                cards[index(i)] = cards[index(i - 1)];
+            }
+        }
+        cards[index(n)] = card;
+        size += 1;
+    }
+
+    @Override
+    public Card peek(final int n) {
+        checkIndex(n, size);
+        return cardAt(n);
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        checkIndex(i, size);
+        checkIndex(j, size);
+        final int iIndex = index(i);
+        final int jIndex = index(j);
+        final Object tmp = cards[iIndex];
+        cards[iIndex] = cards[jIndex];
+        cards[jIndex] = tmp;
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        if (template.size() > cards.length) {
+            allocate(template.size());
+        } else {
+            for (int i = 0; i < size; ++i) {
+                cards[index(i)] = null; // don't hold on to cards that are no longer in the deck
+            }
+        }
+        head = 0;
+        size = template.size();
+        for (int i = 0; i < size; ++i) {
+            cards[i] = template.get(i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Card cardAt(final int n) {
+        return (Card) cards[index(n)];
+    }
+
+    private int index(final int n) {
+        return (head + n) & mask;
+    }
+
+    private void allocate(final int minCapacity) {
+        int capacity = 8;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        cards = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+        final Object[] oldCards = cards;
+        final int oldHead = head;
+        allocate(2 * oldCards.length);
+        final int firstPart = oldCards.length - oldHead;
+        System.arraycopy(oldCards, oldHead, cards, 0, firstPart);
+        System.arraycopy(oldCards, 0, cards, firstPart, oldHead);
+        head = 0;
+    }
+
+    private static void checkIndex(final int n, final int limit) {
+        if (n < 0 || n >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + limit);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package net.premereur.cards.java;
+
+import java.util.List;
+
+/**
+ * A dealing shoe holding several decks of the same cards, as used for blackjack and baccarat. The shoe stores the
+ * ordinals of the cards in a PackedIntDeck and keeps a count of every card left, so that neither dealing (from the top,
+ * in constant time) nor refilling and shuffling (in place) ever creates copies of the card list.
+ * <p>
+ * The cut card is placed at a fixed penetration: the fraction of the shoe that is dealt before it comes up and the shoe
+ * is due for a new shuffle.
+ *
+ * @param <Card> The type of cards in the shoe
+ */
+public class Shoe<Card> implements ResettableDeck<Card> {
+    private final CardPalette<Card> palette;
+    private final int numDecks;
+    private final PackedIntDeck ordinals = new PackedIntDeck();
+    private final int[] counts;
+    private final int cutCardRemaining;
+
+    /**
+     * Creates a full shoe without a cut card: it is only due for a shuffle when it is empty.
+     */
+    public Shoe(final CardPalette<Card> palette, final int numDecks) {
+        this(palette, numDecks, 1.0);
+    }
+
+    /**
+     * Creates a full shoe, with the decks one after the other in palette order.
+     *
+     * @param penetration the fraction of the shoe that is dealt before the cut card comes up, in (0, 1]
+     */
+    public Shoe(final CardPalette<Card> palette, final int numDecks, final double penetration) {
+        if (numDecks < 0) {
+            throw new IllegalArgumentException("The number of decks must not be negative: " + numDecks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be in (0, 1]: " + penetration);
+        }
+        this.palette = palette;
+        this.numDecks = numDecks;
+        this.counts = new int[palette.size()];
+        final int capacity = numDecks * palette.size();
+        this.cutCardRemaining = capacity - (int) Math.round(penetration * capacity);
+        refill();
+    }
+
+    public CardPalette<Card> palette() {
+        return palette;
+    }
+
+    public int numDecks() {
+        return numDecks;
+    }
+
+    /**
+     * @return how many copies of the card are left in the shoe
+     */
+    public int count(final Card card) {
+        return counts[palette.ordinal(card)];
+    }
+
+    public int countOrdinal(final int ordinal) {
+        return counts[ordinal];
+    }
+
+    /**
+     * @return true once the cards in front of the cut card have been dealt
+     */
+    public boolean isCutCardReached() {
+        return size() <= cutCardRemaining;
+    }
+
+    /**
+     * Puts all the decks back in the shoe, one after the other in palette order.
+     */
+    public void refill() {
+        ordinals.clear();
+        for (int deck = 0; deck < numDecks; ++deck) {
+            for (int ordinal = 0; ordinal < palette.size(); ++ordinal) {
+                ordinals.insertNthInt(ordinals.size(), ordinal);
+            }
+        }
+        for (int ordinal = 0; ordinal < counts.length; ++ordinal) {
+            counts[ordinal] = numDecks;
+        }
+    }
+
+    /**
+     * Refills the shoe and shuffles it in place.
+     */
+    public void shuffle(final RandomSource random) {
+        refill();
+        for (int i = ordinals.size() - 1; i > 0; --i) {
+            ordinals.swap(i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Deals the top card without looking it up in the palette.
+     *
+     * @return the ordinal of the card
+     */
+    public int dealOrdinal() {
+        final int ordinal = ordinals.removeNthInt(ordinals.size() - 1);
+        counts[ordinal] -= 1;
+        return ordinal;
+    }
+
+    @Override
+    public int size() {
+        return ordinals.size();
+    }
+
+    @Override
+    public Card removeNth(final int n) {
+        final int ordinal = ordinals.removeNthInt(n);
+        counts[ordinal] -= 1;
+        return palette.card(ordinal);
+    }
+
+    @Override
+    public void insertNth(final int n, final Card card) {
+        final int ordinal = palette.ordinal(card);
+        ordinals.insertNthInt(n, ordinal);
+        counts[ordinal] += 1;
+    }
+
+    @Override
+    public Card peek(final int n) {
+        return palette.card(ordinals.peekInt(n));
+    }
+
+    @Override
+    public void swap(final int i, final int j) {
+        ordinals.swap(i, j);
+    }
+
+    @Override
+    public void resetTo(final List<Card> template) {
+        palette.checkContainsAll(template);
+        ordinals.clear();
+        for (int ordinal = 0; ordinal < counts.length; ++ordinal) {
+            counts[ordinal] = 0;
+        }
+        for (int i = 0; i < template.size(); ++i) {
+            insertNth(i, template.get(i));
+        }
+    }
+}
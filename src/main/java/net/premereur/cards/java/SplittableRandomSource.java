@@ -0,0 +1,41 @@
+package net.premereur.cards.java;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seedable RandomSource backed by SplittableRandom. Not thread-safe: give every thread its own source by splitting
+ * one off a parent source, which keeps a parallel run reproducible from a single seed.
+ */
+public final class SplittableRandomSource implements RandomSource {
+    private final SplittableRandom random;
+
+    public SplittableRandomSource(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomSource(final SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * @return a new source that is (statistically) independent of this one
+     */
+    public SplittableRandomSource split() {
+        return new SplittableRandomSource(random.split());
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+}
@@ -0,0 +1,29 @@
+package net.premereur.cards.java;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A RandomSource backed by ThreadLocalRandom. Every thread gets its own generator, so this source can be shared freely
+ * between threads without contention. It cannot be seeded, so use it when reproducibility is not an issue.
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+    public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+}
@@ -0,0 +1,51 @@
+package net.premereur.cards.java;
+
+/**
+ * A seedable RandomSource implementing the xoroshiro128** generator of Blackman and Vigna. It has a small state (two
+ * longs) and is about as fast as a generator can get, which makes it a good choice for one-per-thread use in
+ * simulations. Not thread-safe.
+ */
+public final class XoroshiroRandomSource implements RandomSource {
+    private long s0;
+    private long s1;
+
+    public XoroshiroRandomSource(final long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Puts the generator in the same state as a new one created with the seed. Lets a game's strategies keep their
+     * source while every deal gets a seed of its own.
+     */
+    public void reseed(final long seed) {
+        // Expand the seed with SplitMix64, as recommended by the authors; this never yields an all-zero state
+        long x = seed;
+        s0 = mix(x += 0x9E3779B97F4A7C15L);
+        s1 = mix(x + 0x9E3779B97F4A7C15L);
+    }
+
+    @Override
+    public long nextLong() {
+        final long a = s0;
+        long b = s1;
+        final long result = Long.rotateLeft(a * 5, 7) * 9;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 24) ^ b ^ (b << 16);
+        s1 = Long.rotateLeft(b, 37);
+        return result;
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32); // the high bits are the better ones
+    }
+
+    /**
+     * The SplitMix64 finalizer: a bijection that scatters nearby inputs over the whole range.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
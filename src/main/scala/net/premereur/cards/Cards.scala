@@ -1,7 +1,10 @@
 package net.premereur.cards
 
 import net.premereur.cards.Cards._
+import net.premereur.cards.java.{DealPattern, DealSeeds}
 
+import scala.annotation.tailrec
+import scala.collection.mutable
 import scala.util.Random
 
 /**
@@ -37,6 +40,48 @@ object Cards {
     def insertFirst(card: Card): Deck[Card] = insertNth(0, card)
 
     def insertLast(card: Card): Deck[Card] = insertNth(size, card)
+
+    /**
+      * Removes the cards from position from (inclusive) until position until (exclusive) in one go. Positions that are
+      * out of bounds are moved to the nearest end, so removing a range that does not overlap the deck removes nothing.
+      *
+      * @return the removed cards, in the order they were in the deck, and the remaining deck
+      */
+    def removeRange(from: Int, until: Int): (IndexedSeq[Card], Deck[Card]) = {
+      val (start, end) = (Math.max(0, from), Math.min(size, until))
+      (start until end).foldLeft((IndexedSeq[Card](), this: Deck[Card])) { case ((removed, curDeck), _) =>
+        val (card, nextDeck) = curDeck.removeNth(start)
+        (removed ++ card, nextDeck)
+      }
+    }
+
+    /**
+      * Inserts the cards so that the first one ends up at position n and the others follow it in order.
+      */
+    def insertAll(n: Int, cards: Iterable[Card]): Deck[Card] = {
+      val start = Math.max(0, Math.min(n, size))
+      cards.zipWithIndex.foldLeft(this: Deck[Card]) { case (curDeck, (card, i)) => curDeck.insertNth(start + i, card) }
+    }
+
+    /**
+      * Rotates the cards so that the card at position i ends up at position (i + distance) modulo the size of the deck.
+      * A positive distance thus moves the last cards to the front of the deck.
+      */
+    def rotate(distance: Int): Deck[Card] =
+      if (isEmpty) {
+        this
+      } else {
+        val shift = ((distance % size) + size) % size
+        val (last, first) = removeRange(size - shift, size)
+        first.insertAll(0, last)
+      }
+
+    /**
+      * All cards in the deck, from the first to the last. Implementations should override this with a more efficient
+      * version.
+      */
+    def toIndexedSeq: IndexedSeq[Card] =
+      Iterator.iterate(removeFirst)(_._2.removeFirst).takeWhile(_._1.isDefined).map(_._1.get).toIndexedSeq
   }
 
   /**
@@ -59,6 +104,25 @@ object Cards {
 
     override def insertNth(n: Int, card: Card): Deck[Card] =
       new IndexedDeck((cards.take(n) :+ card) ++ cards.takeRight(size - n))
+
+    override def removeRange(from: Int, until: Int): (IndexedSeq[Card], Deck[Card]) =
+      if (Math.max(0, from) < Math.min(size, until))
+        (cards.slice(from, until), new IndexedDeck(cards.take(from) ++ cards.drop(until)))
+      else
+        (IndexedSeq[Card](), this)
+
+    override def insertAll(n: Int, newCards: Iterable[Card]): Deck[Card] =
+      new IndexedDeck((cards.take(n) ++ newCards) ++ cards.drop(n))
+
+    override def rotate(distance: Int): Deck[Card] =
+      if (isEmpty) {
+        this
+      } else {
+        val split = size - ((distance % size) + size) % size
+        new IndexedDeck(cards.drop(split) ++ cards.take(split))
+      }
+
+    override def toIndexedSeq: IndexedSeq[Card] = cards
   }
 
   /**
@@ -70,6 +134,180 @@ object Cards {
     def apply[Card](cards: Iterable[Card]): Deck[Card] = IndexedDeck(cards.toIndexedSeq)
   }
 
+  /**
+    * A Deck backed by a persistent balanced (AVL) tree in which every node knows the size of its subtree. Cards can be
+    * removed and inserted at any position in O(log n) time, and a "modified" deck shares all but O(log n) nodes with
+    * the deck it was derived from. This makes it the better choice for strategies that insert or remove cards in the
+    * middle of the deck. Like IndexedDeck, it treats out-of-bounds insertions as insertions at the nearest end.
+    *
+    * @param tree the root of the tree that holds the cards in order.
+    * @tparam Card The underlying type of cards in the deck. Has almost no requirements except that there have to be
+    *              instances of the type.
+    */
+  final class TreeDeck[Card] private(private val tree: TreeDeck.Tree[Card]) extends Deck[Card] {
+
+    import TreeDeck._
+
+    override def size: Int = tree.size
+
+    override def removeNth(n: Int): (Option[Card], Deck[Card]) =
+      if (n >= 0 && n < size)
+        (Some(get(tree, n)), new TreeDeck(remove(tree, n)))
+      else
+        (None, this)
+
+    override def insertNth(n: Int, card: Card): Deck[Card] =
+      new TreeDeck(insert(tree, Math.max(0, Math.min(n, size)), card))
+
+    override def removeRange(from: Int, until: Int): (IndexedSeq[Card], Deck[Card]) =
+      if (Math.max(0, from) < Math.min(size, until)) {
+        val (before, rest) = split(tree, Math.max(0, from))
+        val (removed, after) = split(rest, Math.min(size, until) - Math.max(0, from))
+        (new TreeDeck(removed).toIndexedSeq, new TreeDeck(concat(before, after)))
+      } else {
+        (IndexedSeq[Card](), this)
+      }
+
+    override def insertAll(n: Int, cards: Iterable[Card]): Deck[Card] = {
+      val (before, after) = split(tree, Math.max(0, Math.min(n, size)))
+      val indexedCards = cards.toIndexedSeq
+      new TreeDeck(concat(concat(before, build(indexedCards, 0, indexedCards.size)), after))
+    }
+
+    override def rotate(distance: Int): Deck[Card] =
+      if (isEmpty) {
+        this
+      } else {
+        val (first, last) = split(tree, size - ((distance % size) + size) % size)
+        new TreeDeck(concat(last, first))
+      }
+
+    override def toIndexedSeq: IndexedSeq[Card] = {
+      val builder = Vector.newBuilder[Card]
+      addAll(tree, builder)
+      builder.result()
+    }
+
+    // Two decks are the same when they hold the same cards in the same order, however their trees are shaped
+    override def equals(other: Any): Boolean = other match {
+      case that: TreeDeck[_] => toIndexedSeq == that.toIndexedSeq
+      case _ => false
+    }
+
+    override def hashCode: Int = toIndexedSeq.hashCode
+
+    override def toString: String = toIndexedSeq.mkString("TreeDeck(", ", ", ")")
+  }
+
+  /**
+    * Contains the constructors of TreeDeck and the operations on its tree.
+    */
+  object TreeDeck {
+    def apply[Card](): Deck[Card] = new TreeDeck[Card](Leaf)
+
+    def apply[Card](cards: Iterable[Card]): Deck[Card] = {
+      val indexedCards = cards.toIndexedSeq
+      new TreeDeck(build(indexedCards, 0, indexedCards.size))
+    }
+
+    private[Cards] sealed abstract class Tree[+Card] {
+      def size: Int
+
+      def height: Int
+    }
+
+    private[Cards] case object Leaf extends Tree[Nothing] {
+      val size = 0
+      val height = 0
+    }
+
+    private[Cards] final case class Node[+Card](left: Tree[Card], card: Card, right: Tree[Card]) extends Tree[Card] {
+      val size = left.size + 1 + right.size
+      val height = Math.max(left.height, right.height) + 1
+    }
+
+    // A perfectly balanced tree of the cards from (inclusive) until (exclusive)
+    private def build[Card](cards: IndexedSeq[Card], from: Int, until: Int): Tree[Card] =
+      if (from >= until) {
+        Leaf
+      } else {
+        val middle = (from + until) >>> 1
+        Node(build(cards, from, middle), cards(middle), build(cards, middle + 1, until))
+      }
+
+    @tailrec
+    private def get[Card](tree: Tree[Card], n: Int): Card = tree match {
+      case Node(left, card, right) =>
+        if (n < left.size) get(left, n)
+        else if (n > left.size) get(right, n - left.size - 1)
+        else card
+      case Leaf => throw new IndexOutOfBoundsException(n.toString)
+    }
+
+    private def addAll[Card](tree: Tree[Card], builder: mutable.Builder[Card, _]): Unit = tree match {
+      case Node(left, card, right) =>
+        addAll(left, builder)
+        builder += card
+        addAll(right, builder)
+      case Leaf =>
+    }
+
+    private def insert[Card](tree: Tree[Card], n: Int, card: Card): Tree[Card] = tree match {
+      case Node(left, c, right) =>
+        if (n <= left.size) rebalance(insert(left, n, card), c, right)
+        else rebalance(left, c, insert(right, n - left.size - 1, card))
+      case Leaf => Node(Leaf, card, Leaf)
+    }
+
+    private def remove[Card](tree: Tree[Card], n: Int): Tree[Card] = tree match {
+      case Node(left, card, right) =>
+        if (n < left.size) rebalance(remove(left, n), card, right)
+        else if (n > left.size) rebalance(left, card, remove(right, n - left.size - 1))
+        else concat(left, right)
+      case Leaf => Leaf
+    }
+
+    // The first n cards and the remaining cards
+    private def split[Card](tree: Tree[Card], n: Int): (Tree[Card], Tree[Card]) = tree match {
+      case Node(left, card, right) =>
+        if (n <= left.size) {
+          val (leftFirst, leftRest) = split(left, n)
+          (leftFirst, join(leftRest, card, right))
+        } else {
+          val (rightFirst, rightRest) = split(right, n - left.size - 1)
+          (join(left, card, rightFirst), rightRest)
+        }
+      case Leaf => (Leaf, Leaf)
+    }
+
+    // All the cards of left followed by all the cards of right
+    private def concat[Card](left: Tree[Card], right: Tree[Card]): Tree[Card] =
+      if (right.size == 0) left
+      else join(left, get(right, 0), remove(right, 0))
+
+    // All the cards of left, then card, then all the cards of right. The trees may differ in height arbitrarily.
+    private def join[Card](left: Tree[Card], card: Card, right: Tree[Card]): Tree[Card] = (left, right) match {
+      case (Node(ll, lc, lr), _) if left.height > right.height + 1 => rebalance(ll, lc, join(lr, card, right))
+      case (_, Node(rl, rc, rr)) if right.height > left.height + 1 => rebalance(join(left, card, rl), rc, rr)
+      case _ => Node(left, card, right)
+    }
+
+    // Restores the balance of a node whose subtrees differ at most 2 in height, using a single or a double rotation
+    private def rebalance[Card](left: Tree[Card], card: Card, right: Tree[Card]): Tree[Card] = (left, right) match {
+      case (Node(ll, lc, lr), _) if left.height > right.height + 1 =>
+        lr match {
+          case Node(lrl, lrc, lrr) if lr.height > ll.height => Node(Node(ll, lc, lrl), lrc, Node(lrr, card, right))
+          case _ => Node(ll, lc, Node(lr, card, right))
+        }
+      case (_, Node(rl, rc, rr)) if right.height > left.height + 1 =>
+        rl match {
+          case Node(rll, rlc, rlr) if rl.height > rr.height => Node(Node(left, card, rll), rlc, Node(rlr, rc, rr))
+          case _ => Node(Node(left, card, rl), rc, rr)
+        }
+      case _ => Node(left, card, right)
+    }
+  }
+
   // Now we define two strategies for operating on Decks. We use the Cake pattern, this related to dependency
   // injection and the strategy pattern. However, it does not use constructor injection as in dependency injection (or
   // that's at least how I prefer to use dependency injection) it also focuses on compile time construction unlike the
@@ -85,6 +323,17 @@ object Cards {
 
     trait Dealer {
       def deal(deck: Deck[Card]): (Option[Card], Deck[Card])
+
+      /**
+        * Deals n cards, or fewer when the deck runs out. The hand holds the last card dealt first, as if each card was
+        * put on top of the previous ones. Dealers that take their cards from one place in the deck should override this
+        * to remove all cards in one operation.
+        */
+      def dealMany(n: Int, deck: Deck[Card]): (List[Card], Deck[Card]) =
+        (1 to n).foldLeft((List[Card](), deck)) { case ((hand, curDeck), _) =>
+          val (card, nextDeck) = deal(curDeck)
+          (card.map(_ :: hand).getOrElse(hand), nextDeck) // it could happen that there are not enough cards
+        }
     }
 
   }
@@ -122,54 +371,79 @@ object Demo extends App {
     */
   object FrenchCards {
 
-    sealed trait Suit
+    sealed abstract class Suit(val ordinal: Int)
+
+    case object Harts extends Suit(0)
+
+    case object Diamonds extends Suit(1)
 
-    case object Harts extends Suit
+    case object Spades extends Suit(2)
 
-    case object Diamonds extends Suit
+    case object Clubs extends Suit(3)
 
-    case object Clubs extends Suit
+    sealed abstract class Value(val ordinal: Int)
 
-    case object Spades extends Suit
+    case object Ace extends Value(0)
 
-    sealed trait Value
+    case object Two extends Value(1)
 
-    case object Ace extends Value
+    case object Three extends Value(2)
 
-    case object Two extends Value
+    case object Four extends Value(3)
 
-    case object Three extends Value
+    case object Five extends Value(4)
 
-    case object Four extends Value
+    case object Six extends Value(5)
 
-    case object Five extends Value
+    case object Seven extends Value(6)
 
-    case object Six extends Value
+    case object Eight extends Value(7)
 
-    case object Seven extends Value
+    case object Nine extends Value(8)
 
-    case object Eight extends Value
+    case object Ten extends Value(9)
 
-    case object Nine extends Value
+    case object Jack extends Value(10)
 
-    case object Ten extends Value
+    case object Queen extends Value(11)
 
-    case object Jack extends Value
+    case object King extends Value(12)
 
-    case object Queen extends Value
+    /**
+      * There is exactly one instance of every card, so cards can be compared by reference. Every card has a stable
+      * ordinal, suit * 13 + value, so that decks and hands can be stored as small integers.
+      */
+    final class Card private[FrenchCards](val suit: Suit, val value: Value) {
+      val ordinal: Int = suit.ordinal * numValues + value.ordinal
 
-    case object King extends Value
+      override val toString: String = s"Card($suit,$value)"
 
-    case class Card(suit: Suit, value: Value)
+      override def hashCode: Int = ordinal
+    }
+
+    object Card {
+      def apply(suit: Suit, value: Value): Card = fromOrdinal(suit.ordinal * numValues + value.ordinal)
+
+      def unapply(card: Card): Option[(Suit, Value)] = Some((card.suit, card.value))
+    }
 
     val suits = List(Harts, Diamonds, Spades, Clubs)
 
     val values = List(Ace, Two, Three, Four, Five, Six, Seven, Eight, Nine, Ten, Jack, Queen, King)
 
-    val allCards = for {
+    private val numValues = values.size
+
+    private val cards: Array[Card] = (for {
       suit <- suits
       value <- values
-    } yield Card(suit, value)
+    } yield new Card(suit, value)).toArray
+
+    def fromOrdinal(ordinal: Int): Card = cards(ordinal)
+
+    /**
+      * All the cards, in ordinal order.
+      */
+    val allCards: List[Card] = cards.toList
   }
 
   type FrenchCard = FrenchCards.Card
@@ -184,6 +458,11 @@ object Demo extends App {
 
     class BottomDealer extends Dealer {
       def deal(deck: Deck[Card]): (Option[Card], Deck[Card]) = deck.removeFirst
+
+      override def dealMany(n: Int, deck: Deck[Card]): (List[Card], Deck[Card]) = {
+        val (cards, rest) = deck.removeRange(0, n)
+        (cards.reverseIterator.toList, rest)
+      }
     }
 
   }
@@ -198,6 +477,12 @@ object Demo extends App {
 
     class TopDealer extends Dealer {
       def deal(deck: Deck[Card]): (Option[Card], Deck[Card]) = deck.removeLast
+
+      // The top card is dealt first, so it ends up last in the hand: the hand is the top of the deck in deck order
+      override def dealMany(n: Int, deck: Deck[Card]): (List[Card], Deck[Card]) = {
+        val (cards, rest) = deck.removeRange(deck.size - n, deck.size)
+        (cards.toList, rest)
+      }
     }
 
   }
@@ -217,17 +502,29 @@ object Demo extends App {
   }
 
   /**
-    * A shuffling strategy that thoroughly shuffles the cards.
+    * A shuffling strategy that thoroughly shuffles the cards. It uses the "inside-out" variant of the Fisher-Yates
+    * shuffle: every card in turn is put at a random position among the cards placed so far, and the card that was at
+    * that position moves to the end. This needs only one pass over the deck with a mutable buffer, which is not visible
+    * from the outside.
     *
     * @tparam Card the type of cards in the Deck
     */
   trait DeepShuffling[Card] extends Shuffling[Card] {
     def shuffler = new Shuffler {
-      def shuffle(deck: Deck[Card])(implicit random: Random): Deck[Card] =
-        (0 until deck.size).foldLeft(IndexedDeck[Card]()) { case (newDeck, n) =>
+      def shuffle(deck: Deck[Card])(implicit random: Random): Deck[Card] = {
+        val cards = deck.toIndexedSeq
+        val shuffled = new mutable.ArrayBuffer[Card](cards.size)
+        cards.indices.foreach { n =>
           val position = random.nextInt(1 + n)
-          newDeck.insertNth(position, deck.removeNth(n)._1.get)
+          if (position == n) {
+            shuffled += cards(n)
+          } else {
+            shuffled += shuffled(position)
+            shuffled(position) = cards(n)
+          }
         }
+        IndexedDeck(shuffled.toVector)
+      }
     }
   }
 
@@ -251,15 +548,18 @@ object Demo extends App {
           if (height >= 2) {
             val first = Math.min(height - 2, (height / 3 + height / 3 * random.nextGaussian()).toInt)
             val number = random.nextInt(height - first - 1)
-            (0 until number).foldLeft(deck) { (newDeck, _) =>
-              val (card, newestDeck) = newDeck.removeNth(first)
-              card.map(newestDeck.insertLast).getOrElse(newDeck)
+            if (first >= 0) {
+              val (packet, rest) = deck.removeRange(first, first + number)
+              rest.insertAll(rest.size, packet)
+            } else {
+              deck // the packet would start below the bottom of the deck, so there is nothing to move
             }
           } else {
             deck // cannot shuffle if there are not at least two cards
           }
         }
-        (0 until random.nextInt(maxShuffles)).foldLeft(deck) { (nextDeck, _) =>
+        // A TreeDeck makes moving cards from the middle of the deck cheap
+        (0 until random.nextInt(maxShuffles)).foldLeft(TreeDeck(deck.toIndexedSeq)) { (nextDeck, _) =>
           moveFromTopToBottom(nextDeck)
         }
       }
@@ -268,6 +568,119 @@ object Demo extends App {
   }
 
 
+  /**
+    * Common machinery for shuffling strategies that mimic physical shuffles, which move whole packets of cards. A
+    * shuffle consists of a number of passes that rearrange an array of card positions (position 0 being the bottom of
+    * the deck) with block copies. The deck is only rebuilt once at the end, so every pass is O(n).
+    *
+    * @tparam Card the type of cards in the Deck
+    */
+  trait PacketShuffling[Card] extends Shuffling[Card] {
+    def passes: Int
+
+    /**
+      * Fills to with a rearrangement of from, which has the same length.
+      */
+    protected def pass(from: Array[Int], to: Array[Int], random: Random): Unit
+
+    def shuffler = new Shuffler {
+      def shuffle(deck: Deck[Card])(implicit random: Random): Deck[Card] = {
+        val cards = deck.toIndexedSeq
+        val positions = (1 to passes).foldLeft(Array.range(0, cards.size)) { (from, _) =>
+          val to = new Array[Int](from.length)
+          pass(from, to, random)
+          to
+        }
+        IndexedDeck(Vector.tabulate(cards.size)(i => cards(positions(i))))
+      }
+    }
+
+    /**
+      * A random number of cards with a Binomial(numCards, 1/2) distribution, counted as the ones in random bits.
+      */
+    protected def binomialHalf(numCards: Int, random: Random): Int = {
+      val fullWords = (1 to numCards / 64).map(_ => _root_.java.lang.Long.bitCount(random.nextLong())).sum
+      val remaining = numCards % 64
+      if (remaining > 0) fullWords + _root_.java.lang.Long.bitCount(random.nextLong() >>> (64 - remaining))
+      else fullWords
+    }
+  }
+
+  /**
+    * A riffle shuffle according to the Gilbert-Shannon-Reeds model: the deck is cut in two packets with a binomially
+    * distributed size, after which the cards drop from either packet with a probability proportional to the number of
+    * cards left in that packet.
+    *
+    * @tparam Card the type of cards in the Deck
+    */
+  trait RiffleShuffling[Card] extends PacketShuffling[Card] {
+    def riffles: Int = 7 // famously enough for 52 cards
+
+    def passes = riffles
+
+    protected def pass(from: Array[Int], to: Array[Int], random: Random): Unit = {
+      val size = from.length
+      val cut = binomialHalf(size, random)
+      var left = 0 // the next card of the bottom packet
+      var right = cut // the next card of the top packet
+      while (left < cut && right < size) {
+        val leftRemaining = cut - left
+        if (random.nextInt(leftRemaining + size - right) < leftRemaining) {
+          to(left + right - cut) = from(left)
+          left += 1
+        } else {
+          to(left + right - cut) = from(right)
+          right += 1
+        }
+      }
+      // One of the packets is exhausted: the rest of the other one drops as a block
+      Array.copy(from, left, to, left + right - cut, cut - left)
+      Array.copy(from, right, to, right, size - right)
+    }
+  }
+
+  /**
+    * An overhand shuffle: small packets are repeatedly taken from the top of the deck and dropped onto a new pile,
+    * which reverses the order of the packets but not of the cards within them. With larger packets this becomes a strip
+    * shuffle. The packet sizes are uniformly distributed between 1 and twice the mean packet size.
+    *
+    * @tparam Card the type of cards in the Deck
+    */
+  trait OverhandShuffling[Card] extends PacketShuffling[Card] {
+    def overhandPasses: Int = 10
+
+    def meanPacketSize: Int = 4
+
+    def passes = overhandPasses
+
+    protected def pass(from: Array[Int], to: Array[Int], random: Random): Unit = {
+      var top = from.length // the cards in hand are from(0 until top)
+      while (top > 0) {
+        val packetSize = Math.min(top, 1 + random.nextInt(2 * meanPacketSize))
+        Array.copy(from, top - packetSize, to, from.length - top, packetSize)
+        top -= packetSize
+      }
+    }
+  }
+
+  /**
+    * Cuts the deck: the top part is lifted off and put under the rest of the deck. The cut point is binomially
+    * distributed, as a human tends to cut near the middle.
+    *
+    * @tparam Card the type of cards in the Deck
+    */
+  trait CutShuffling[Card] extends PacketShuffling[Card] {
+    def cuts: Int = 1
+
+    def passes = cuts
+
+    protected def pass(from: Array[Int], to: Array[Int], random: Random): Unit = {
+      val cut = binomialHalf(from.length, random)
+      Array.copy(from, cut, to, 0, from.length - cut)
+      Array.copy(from, 0, to, from.length - cut, cut)
+    }
+  }
+
   // Finally we come to some higher-level abstractions that make use of the the strategies we have defined earlier.
 
   // Let's start of with some type aliases to simplify the function signatures
@@ -276,14 +689,30 @@ object Demo extends App {
 
   /**
     * We define a specification for games that deal all cards in a deck and make hands out of them. By construction,
-    * the remaining deck is empty, so does not need to be returned.
+    * the remaining deck is empty, so does not need to be returned. The random generator is passed along to the
+    * shuffler so that games can be used (and seeded) from outside of this demo.
     *
     * @tparam Card the type of cards in the Deck
     */
   trait CompleteDealGame[Card] {
     self: Shuffling[Card] with Dealing[Card] =>
 
-    def dealAll(deck: Deck[Card]): AllHands[Card]
+    def dealAll(deck: Deck[Card])(implicit random: Random): AllHands[Card]
+
+    /**
+      * Deals deal number dealNum of the run with the given seed, with a random generator seeded for that deal only. The
+      * outcome does not depend on any other deal, so any deal of a run can be regenerated on its own.
+      */
+    def deal(deck: Deck[Card], seed: Long, dealNum: Long): AllHands[Card] =
+      dealAll(deck)(new Random(DealSeeds.seedFor(seed, dealNum)))
+
+    /**
+      * Lazily deals the complete deck over and over again, each time starting from the given deck. Only the deal at
+      * hand is kept in memory. Every deal is seeded on its own, so a run can be sharded over threads (or machines) by
+      * giving each an iterator starting at a different deal number of the same run.
+      */
+    def deals(deck: Deck[Card], seed: Long, from: Long = 0): Iterator[AllHands[Card]] =
+      Iterator.iterate(from)(_ + 1).map(deal(deck, seed, _))
   }
 
   /**
@@ -295,11 +724,7 @@ object Demo extends App {
   trait ConsecutiveDealing[Card] {
     self: Dealing[Card] =>
 
-    def dealN(n: Int, deck: Deck[Card]): (List[Card], Deck[Card]) =
-      (1 to n).foldLeft((List[Card](), deck)) { case ((hand, curDeck), _) =>
-        val (card, nextDeck) = dealer.deal(curDeck)
-        (card.map(_ :: hand).getOrElse(hand), nextDeck) // it could happen that there are not enough cards
-      }
+    def dealN(n: Int, deck: Deck[Card]): (List[Card], Deck[Card]) = dealer.dealMany(n, deck)
   }
 
   /**
@@ -310,7 +735,7 @@ object Demo extends App {
     extends CompleteDealGame[FrenchCard] with ConsecutiveDealing[FrenchCard] {
     self: Shuffling[FrenchCard] with Dealing[FrenchCard] =>
 
-    def dealAll(deck: Deck[FrenchCard]): AllHands[FrenchCard] =
+    def dealAll(deck: Deck[FrenchCard])(implicit random: Random): AllHands[FrenchCard] =
       (1 to FrenchCards.suits.size).foldLeft((List[Hand[FrenchCard]](), shuffler.shuffle(deck))) {
         case ((hands, curDeck), _) =>
           val (hand, nextDeck) = dealN(FrenchCards.values.size, curDeck)
@@ -319,7 +744,10 @@ object Demo extends App {
   }
 
   /**
-    * A game that captures the common pattern of dealing in predetermined batches of cards.
+    * A game that captures the common pattern of dealing in predetermined batches of cards. The batches go round the
+    * players; by default every batch makes its own hand. The pattern is compiled once into a table that gives the
+    * player for every position in the deal, so that dealing is a single pass over the dealt cards. Hands are returned
+    * for the last player first, and hold the last card dealt to them first.
     *
     * @tparam Card the type of cards in the Deck
     */
@@ -328,11 +756,20 @@ object Demo extends App {
 
     def numDeals: List[Int]
 
-    def dealAll(deck: Deck[Card]): AllHands[Card] =
-      numDeals.foldLeft((List[Hand[Card]](), deck)) { case ((game, curDeck), dealNum) =>
-        val (hand, nextDeck) = dealN(dealNum, curDeck)
-        (hand :: game, nextDeck)
-      }._1
+    def numPlayers: Int = numDeals.size
+
+    lazy val dealPattern = new DealPattern(numPlayers, numDeals: _*)
+
+    def dealAll(deck: Deck[Card])(implicit random: Random): AllHands[Card] = {
+      val (dealt, _) = dealN(dealPattern.numCards, deck) // the last card dealt comes first
+      val hands = Array.fill(dealPattern.numPlayers)(List[Card]())
+      dealt.foldRight(0) { (card, position) =>
+        val player = dealPattern.playerAt(position)
+        hands(player) = card :: hands(player)
+        position + 1
+      }
+      hands.reverseIterator.toList
+    }
   }
 
   /**
@@ -342,14 +779,11 @@ object Demo extends App {
   trait Wiezen extends PieceWiseDealGame[FrenchCard] with TopDealing[FrenchCard] {
     self: Shuffling[FrenchCard] =>
     val numDeals = List(4, 4, 4, 4, 5, 5, 5, 5, 4, 4, 4, 4)
+    override def numPlayers = 4
     val maxShuffles = 40
 
-    override def dealAll(deck: Deck[FrenchCard]): AllHands[FrenchCard] =
-      super.dealAll(shuffler.shuffle(deck)) // We now have 12 lists of cards: one for every deal group
-        .grouped(4) // combine per deal round: We now have 3 lists that contains lists of cards for all players
-        .toList // grouped returns an iterator, but transpose needs a list
-        .transpose // we need lists per player not per round. Transpose fixes this
-        .map(_.flatten) // we need to combine the cards in the 3 rounds to one hand
+    override def dealAll(deck: Deck[FrenchCard])(implicit random: Random): AllHands[FrenchCard] =
+      super.dealAll(shuffler.shuffle(deck))
   }
 
   /**
@@ -385,6 +819,7 @@ object Demo extends App {
   val deepShuffleFullDealGame = new CompleteConsecutiveSingleDealGame()
     with DeepShuffling[FrenchCard] with TopDealing[FrenchCard]
   val humanWiesGame = new Wiezen with HumanLikeShuffling[FrenchCard]
+  val riffledWiesGame = new Wiezen with RiffleShuffling[FrenchCard]
 
   private val sortedFullFrenchDeck = IndexedDeck(FrenchCards.allCards)
 
@@ -392,7 +827,7 @@ object Demo extends App {
   private def mkString[Card](hands: AllHands[Card]) = hands.map(_.mkString("|")).mkString("\n")
 
   // Here we make use of the fact that all games implement the CompleteDealGame: we call the dealAll method
-  List(noShuffleFullDealGame, deepShuffleFullDealGame, humanWiesGame).foreach { game =>
+  List(noShuffleFullDealGame, deepShuffleFullDealGame, humanWiesGame, riffledWiesGame).foreach { game =>
     println(mkString(game.dealAll(sortedFullFrenchDeck)))
     println
   }
@@ -0,0 +1,72 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck, TreeDeck}
+import org.scalacheck.Gen
+
+/**
+  * The range operations of the decks must all behave like the same operations on a plain sequence.
+  */
+class BulkDeckOperationsSpec extends BaseCardSpec {
+
+  /**
+    * A deck that only implements the abstract operations, so that the default range operations are used.
+    */
+  case class MinimalDeck(deck: Deck[Int]) extends Deck[Int] {
+    override def size: Int = deck.size
+
+    override def removeNth(n: Int): (Option[Int], Deck[Int]) = {
+      val (card, nextDeck) = deck.removeNth(n)
+      (card, MinimalDeck(nextDeck))
+    }
+
+    override def insertNth(n: Int, card: Int): Deck[Int] = MinimalDeck(deck.insertNth(n, card))
+  }
+
+  def anyDeckWithRanges(newDeck: Seq[Int] => Deck[Int]) = {
+    it("should remove a range of cards") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(-10, 110), "from"), (Gen.chooseNum(-10, 110), "until")) {
+        (size: Int, from: Int, until: Int) =>
+          val cards = 0 until size
+          val (removed, rest) = newDeck(cards).removeRange(from, until)
+          removed shouldBe cards.slice(from, until)
+          rest.toIndexedSeq shouldBe cards.take(Math.max(0, from)) ++ cards.drop(Math.max(from, until))
+      }
+    }
+    it("should insert a range of cards") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(-10, 110), "n"), (Gen.chooseNum(0, 20), "number")) {
+        (size: Int, n: Int, number: Int) =>
+          val cards = 0 until size
+          val newCards = (1 to number).map(-_)
+          newDeck(cards).insertAll(n, newCards).toIndexedSeq shouldBe cards.take(n) ++ newCards ++ cards.drop(n)
+      }
+    }
+    it("should rotate the cards") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(-200, 200), "distance")) { (size: Int, distance: Int) =>
+        val cards = 0 until size
+        val rotated = newDeck(cards).rotate(distance).toIndexedSeq
+        rotated.indices.foreach(i => rotated((i + distance % size + size) % size) shouldBe cards(i))
+      }
+    }
+    it("should give the removed range back in place when inserting it again") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "from"), (Gen.chooseNum(0, 100), "until")) {
+        (size: Int, from: Int, until: Int) =>
+          whenever(from <= until && until <= size) {
+            val (removed, rest) = newDeck(0 until size).removeRange(from, until)
+            rest.insertAll(from, removed).toIndexedSeq shouldBe (0 until size)
+          }
+      }
+    }
+  }
+
+  describe("An IndexedDeck") {
+    it should behave like anyDeckWithRanges(cards => IndexedDeck(cards))
+  }
+
+  describe("A TreeDeck") {
+    it should behave like anyDeckWithRanges(cards => TreeDeck(cards))
+  }
+
+  describe("The default range operations of a Deck") {
+    it should behave like anyDeckWithRanges(cards => MinimalDeck(IndexedDeck(cards)))
+  }
+}
@@ -24,6 +24,18 @@ trait DealerBehaviours {
         deck should have size startDeck.size - 1
       }
     }
+    it("should deal many cards like it deals them one by one") {
+      forAll("deck", "n") { (startDeck: Deck[Int], n: Int) =>
+        val count = Math.abs(n % (startDeck.size + 5)) // now and then more than there are cards
+        val (oneByOne, oneByOneDeck) = (1 to count).foldLeft((List[Int](), startDeck)) { case ((hand, deck), _) =>
+          val (card, remaining) = dealer.deal(deck)
+          (card.map(_ :: hand).getOrElse(hand), remaining)
+        }
+        val (hand, deck) = dealer.dealMany(count, startDeck)
+        hand shouldBe oneByOne
+        deck.toIndexedSeq shouldBe oneByOneDeck.toIndexedSeq
+      }
+    }
     it("should draw no card from an empty deck") {
       dealer.deal(IndexedDeck())._1 shouldBe None
     }
@@ -0,0 +1,41 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck, TreeDeck}
+import net.premereur.cards.Demo.DeepShuffling
+import org.scalacheck.Gen
+
+import scala.util.Random
+
+class DeepShufflingSpec extends BaseCardSpec with UniformityChecks {
+
+  describe("A DeepShuffling strategy") {
+    val shuffler = new DeepShuffling[Int] {}.shuffler
+
+    it("should keep all the cards") {
+      forAll((Gen.chooseNum(0, 200), "size")) { size: Int =>
+        implicit val random = new Random(size)
+        shuffler.shuffle(IndexedDeck(0 until size)).toIndexedSeq.sorted shouldBe (0 until size)
+      }
+    }
+    it("should shuffle any kind of deck") {
+      forAll((Gen.chooseNum(0, 200), "size")) { size: Int =>
+        implicit val random = new Random(size)
+        shuffler.shuffle(TreeDeck(0 until size)).toIndexedSeq.sorted shouldBe (0 until size)
+      }
+    }
+    it("should produce all permutations of a small deck equally often") {
+      implicit val random = new Random(4)
+      val deck: Deck[Int] = IndexedDeck(0 until 4)
+      shouldBeUniform((1 to 48000).map(_ => shuffler.shuffle(deck).toIndexedSeq), 24)
+    }
+    it("should put any card at any position equally often") {
+      implicit val random = new Random(52)
+      val deck: Deck[Int] = IndexedDeck(0 until 52)
+      val shuffled = (1 to 10000).map(_ => shuffler.shuffle(deck).toIndexedSeq)
+      shouldBeUniform(shuffled.map(_.indexOf(0)), 52)
+      shouldBeUniform(shuffled.map(_.indexOf(51)), 52)
+      shouldBeUniform(shuffled.map(_.head), 52)
+      shouldBeUniform(shuffled.map(_.last), 52)
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package net.premereur.cards
 
 import net.premereur.cards.Demo.FrenchCards
+import net.premereur.cards.Demo.FrenchCards.{Ace, Card, Clubs, Harts, King}
+import org.scalacheck.Gen
 
 /**
   * Created by gpremer on 11/27/15.
@@ -16,5 +18,25 @@ class FrenchCardSpec extends BaseCardSpec {
     it("should have 52 different cards") {
       FrenchCards.allCards.toSet.size shouldBe 52
     }
+    it("should number the cards suit by suit") {
+      FrenchCards.allCards.map(_.ordinal) shouldBe (0 until 52)
+      FrenchCards.allCards.foreach { card =>
+        card.ordinal shouldBe card.suit.ordinal * 13 + card.value.ordinal
+      }
+    }
+    it("should find a card by its ordinal") {
+      forAll((Gen.chooseNum(0, 51), "ordinal")) { ordinal: Int =>
+        FrenchCards.fromOrdinal(ordinal).ordinal shouldBe ordinal
+      }
+    }
+    it("should have only one instance of every card") {
+      Card(Harts, Ace) should be theSameInstanceAs FrenchCards.fromOrdinal(0)
+      Card(Clubs, King) should be theSameInstanceAs FrenchCards.allCards.last
+    }
+    it("should take cards apart") {
+      val Card(suit, value) = FrenchCards.fromOrdinal(51)
+      (suit, value) shouldBe (Clubs, King)
+      FrenchCards.fromOrdinal(51).toString shouldBe "Card(Clubs,King)"
+    }
   }
 }
@@ -0,0 +1,52 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{IndexedDeck, Shuffling}
+import net.premereur.cards.Demo.{CutShuffling, OverhandShuffling, RiffleShuffling}
+import org.scalacheck.Gen
+
+import scala.util.Random
+
+class PacketShufflingSpec extends BaseCardSpec {
+
+  private def shuffled(shuffling: Shuffling[Int], size: Int) = {
+    implicit val random = new Random(size)
+    shuffling.shuffler.shuffle(IndexedDeck(0 until size)).toIndexedSeq
+  }
+
+  def anyPacketShuffling(shuffling: Shuffling[Int]) = {
+    it("should keep all the cards") {
+      forAll((Gen.chooseNum(0, 200), "size")) { size: Int =>
+        shuffled(shuffling, size).sorted shouldBe (0 until size)
+      }
+    }
+  }
+
+  describe("A RiffleShuffling strategy") {
+    it should behave like anyPacketShuffling(new RiffleShuffling[Int] {})
+
+    it("should interleave two packets in a single riffle") {
+      forAll((Gen.chooseNum(1, 200), "size")) { size: Int =>
+        val cards = shuffled(new RiffleShuffling[Int] {
+          override def riffles = 1
+        }, size)
+        val positions = cards.zipWithIndex.sortBy(_._1).map(_._2)
+        positions.sliding(2).count(pair => pair.size == 2 && pair(1) < pair(0)) should be <= 1
+      }
+    }
+  }
+
+  describe("An OverhandShuffling strategy") {
+    it should behave like anyPacketShuffling(new OverhandShuffling[Int] {})
+  }
+
+  describe("A CutShuffling strategy") {
+    it should behave like anyPacketShuffling(new CutShuffling[Int] {})
+
+    it("should rotate the deck") {
+      forAll((Gen.chooseNum(1, 200), "size")) { size: Int =>
+        val cards = shuffled(new CutShuffling[Int] {}, size)
+        cards shouldBe (cards.head until size) ++ (0 until cards.head)
+      }
+    }
+  }
+}
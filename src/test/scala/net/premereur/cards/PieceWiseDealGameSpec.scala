@@ -0,0 +1,60 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.IndexedDeck
+import net.premereur.cards.Demo._
+
+import scala.util.Random
+
+class PieceWiseDealGameSpec extends BaseCardSpec {
+  implicit val random = new Random(1)
+
+  describe("A PieceWiseDealGame") {
+    it("should give every player the packets dealt to them, last player and last card first") {
+      val game = new PieceWiseDealGame[Int] with TopDealing[Int] with NoShuffling[Int] {
+        val numDeals = List(2, 3, 2, 3)
+        override def numPlayers = 2
+      }
+      game.dealAll(IndexedDeck(0 until 10)) shouldBe List(List(0, 1, 2, 5, 6, 7), List(3, 4, 8, 9))
+    }
+    it("should make a hand of every packet by default") {
+      val game = new PieceWiseDealGame[Int] with TopDealing[Int] with NoShuffling[Int] {
+        val numDeals = List(1, 2, 3)
+      }
+      game.dealAll(IndexedDeck(0 until 6)) shouldBe List(List(0, 1, 2), List(3, 4), List(5))
+    }
+    it("should deal what it can from a short deck") {
+      val game = new PieceWiseDealGame[Int] with TopDealing[Int] with NoShuffling[Int] {
+        val numDeals = List(3, 3)
+      }
+      game.dealAll(IndexedDeck(0 until 4)) shouldBe List(List(0), List(1, 2, 3))
+    }
+  }
+
+  describe("Wiezen") {
+    it("should deal 13 cards to each of the 4 players") {
+      val wiezen = new Wiezen with DeepShuffling[FrenchCard]
+      val hands = wiezen.dealAll(IndexedDeck(FrenchCards.allCards))
+      hands.map(_.size) shouldBe List(13, 13, 13, 13)
+      hands.flatten.toSet shouldBe FrenchCards.allCards.toSet
+    }
+    it("should deal in rounds of 4, 5 and 4 cards") {
+      val wiezen = new Wiezen with NoShuffling[FrenchCard]
+      val hands = wiezen.dealAll(IndexedDeck(FrenchCards.allCards)).map(_.map(_.ordinal))
+      // The top card, 51, goes to the first player, which is the last hand
+      hands.last shouldBe List(12, 13, 14, 15, 31, 32, 33, 34, 35, 48, 49, 50, 51)
+    }
+    it("should stream reproducible deals") {
+      val wiezen = new Wiezen with DeepShuffling[FrenchCard]
+      val deck = IndexedDeck(FrenchCards.allCards)
+      wiezen.deals(deck, 7).take(5).toList shouldBe wiezen.deals(deck, 7).take(5).toList
+      wiezen.deals(deck, 7).take(1000).forall(_.flatten.size == 52) shouldBe true
+    }
+    it("should regenerate any deal of a run on its own") {
+      val wiezen = new Wiezen with DeepShuffling[FrenchCard]
+      val deck = IndexedDeck(FrenchCards.allCards)
+      val run = wiezen.deals(deck, 7).take(20).toList
+      run(13) shouldBe wiezen.deal(deck, 7, 13)
+      wiezen.deals(deck, 7, from = 10).take(10).toList shouldBe run.drop(10)
+    }
+  }
+}
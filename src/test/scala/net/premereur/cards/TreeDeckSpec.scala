@@ -0,0 +1,75 @@
+package net.premereur.cards
+
+import net.premereur.cards.Cards.{Deck, IndexedDeck, TreeDeck}
+import org.scalacheck.Gen
+
+import scala.util.Random
+
+class TreeDeckSpec extends BaseCardSpec {
+
+  // A random sequence of insertions (Some(card)) and removals (None) at random positions
+  private val operationsGen: Gen[List[(Option[Int], Double)]] = Gen.listOf(for {
+    card <- Gen.oneOf(Gen.const(None), Gen.chooseNum(-100, -1).map(Some(_)))
+    where <- Gen.choose(0.0, 1.0)
+  } yield (card, where))
+
+  private def applyAll(deck: Deck[Int], operations: List[(Option[Int], Double)]) =
+    operations.foldLeft(deck) {
+      case (curDeck, (Some(card), where)) => curDeck.insertNth((where * (curDeck.size + 1)).toInt, card)
+      case (curDeck, (None, where)) => curDeck.removeNth((where * curDeck.size).toInt)._2
+    }
+
+  describe("A TreeDeck") {
+    it("should hold the cards it was created with, in order") {
+      forAll((Gen.chooseNum(0, 1000), "size")) { size: Int =>
+        TreeDeck(0 until size).toIndexedSeq shouldBe (0 until size)
+      }
+    }
+    it("should yield the number of cards inside") {
+      forAll((Gen.chooseNum(0, 1000), "size")) { size: Int =>
+        TreeDeck(0 until size).size shouldBe size
+      }
+    }
+    it("should yield the known card at any position") {
+      forAll((Gen.chooseNum(1, 1000), "size")) { size: Int =>
+        val n = Random.nextInt(size)
+        TreeDeck(0 until size).removeNth(n)._1 shouldBe Some(n)
+      }
+    }
+    it("should yield no card and keep the deck intact when removing out of bounds") {
+      forAll((Gen.chooseNum(0, 100), "size")) { size: Int =>
+        val deck = TreeDeck(0 until size)
+        deck.removeNth(-1) shouldBe ((None, deck))
+        deck.removeNth(size) shouldBe ((None, deck))
+      }
+    }
+    it("should behave like an IndexedDeck for any sequence of insertions and removals") {
+      forAll((Gen.chooseNum(0, 100), "size"), (operationsGen, "operations")) {
+        (size: Int, operations: List[(Option[Int], Double)]) =>
+          applyAll(TreeDeck(0 until size), operations).toIndexedSeq shouldBe
+            applyAll(IndexedDeck(0 until size), operations).toIndexedSeq
+      }
+    }
+    it("should insert out of bounds cards at the nearest end, like an IndexedDeck") {
+      forAll((Gen.chooseNum(0, 100), "size")) { size: Int =>
+        TreeDeck(0 until size).insertNth(-5, -1).toIndexedSeq shouldBe IndexedDeck(0 until size).insertNth(-5, -1).toIndexedSeq
+        TreeDeck(0 until size).insertNth(size + 5, -1).toIndexedSeq shouldBe
+          IndexedDeck(0 until size).insertNth(size + 5, -1).toIndexedSeq
+      }
+    }
+    it("should leave the original deck unchanged") {
+      forAll((Gen.chooseNum(1, 100), "size")) { size: Int =>
+        val deck = TreeDeck(0 until size)
+        deck.insertFirst(-1).removeLast
+        deck.toIndexedSeq shouldBe (0 until size)
+      }
+    }
+    it("should equal another deck with the same cards, however it was built") {
+      forAll((Gen.chooseNum(0, 100), "size")) { size: Int =>
+        val built = (0 until size).foldLeft(TreeDeck[Int]())((deck, card) => deck.insertLast(card))
+        built shouldBe TreeDeck(0 until size)
+        built.hashCode shouldBe TreeDeck(0 until size).hashCode
+      }
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package net.premereur.cards
+
+/**
+  * Chi-square checks for uniformly distributed samples. The threshold is the chi-square value that a uniform
+  * distribution only exceeds with a probability of 1 in 10000.
+  */
+trait UniformityChecks {
+  self: BaseCardSpec =>
+
+  // Wilson-Hilferty approximation of the chi-square quantile for a standard normal quantile of 3.72 (p = 0.0001)
+  private def criticalChiSquare(degreesOfFreedom: Int) = {
+    val k = degreesOfFreedom.toDouble
+    k * Math.pow(1 - 2 / (9 * k) + 3.72 * Math.sqrt(2 / (9 * k)), 3)
+  }
+
+  private def chiSquare(counts: Seq[Int], numCategories: Int) = {
+    val expected = counts.sum.toDouble / numCategories
+    val observed = counts ++ Seq.fill(numCategories - counts.size)(0) // categories that never occurred
+    observed.map(count => (count - expected) * (count - expected) / expected).sum
+  }
+
+  def shouldBeUniform[T](samples: Seq[T], numCategories: Int) = {
+    val counts = samples.groupBy(identity).values.map(_.size).toSeq
+    counts.size should be <= numCategories
+    chiSquare(counts, numCategories) should be < criticalChiSquare(numCategories - 1)
+  }
+}
@@ -0,0 +1,65 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class ArenaDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+  private val palette = new CardPalette[Integer]((0 until 256).map(Int.box).asJava)
+
+  private def contents(deck: Deck[Integer]) = (0 until deck.size).map(deck.peek(_).intValue)
+
+  // Room for the largest deck plus the cards the shared behaviours insert
+  private def newDeck(size: Int) = {
+    val deck = new DeckArena(3, 256).deck(1, palette)
+    deck.resetToOrdinals(size)
+    deck
+  }
+
+  describe("An ArenaDeck") {
+    it should behave like anyJavaDeck(newDeck)
+    it should behave like anyResettableDeck(newDeck)
+    it should behave like anyPaletteBackedDeck(newDeck)
+
+    it("should start empty") {
+      new DeckArena(10, 52).deck(9, palette).size shouldBe 0
+    }
+    it("should keep the decks of the arena apart") {
+      forAll((Gen.chooseNum(1, 20), "decks"), (Gen.chooseNum(0, 100), "cards")) { (numDecks: Int, maxCards: Int) =>
+        val arena = new DeckArena(numDecks, maxCards)
+        val deck = arena.deck(0, palette)
+        (0 until numDecks).foreach { index =>
+          deck.moveTo(index)
+          deck.resetTo((0 until maxCards).map(card => Int.box((card + index) % 256)).asJava)
+        }
+        (0 until numDecks).foreach { index =>
+          deck.moveTo(index)
+          contents(deck) shouldBe (0 until maxCards).map(card => (card + index) % 256)
+        }
+      }
+    }
+    it("should refuse more cards than a deck can hold") {
+      val deck = new DeckArena(2, 3).deck(0, palette)
+      deck.resetToOrdinals(3)
+      an[IllegalStateException] should be thrownBy deck.insertFirst(7)
+      an[IllegalStateException] should be thrownBy deck.resetToOrdinals(4)
+    }
+    it("should refuse palettes of more than 256 cards") {
+      val bigPalette = new CardPalette[Integer]((0 to 256).map(Int.box).asJava)
+      an[IllegalArgumentException] should be thrownBy new DeckArena(1, 10).deck(0, bigPalette)
+    }
+    it("should not be usable once the arena is closed") {
+      val arena = new DeckArena(2, 10)
+      val deck = arena.deck(1, palette)
+      deck.resetToOrdinals(5)
+      arena.close()
+      arena.isOpen shouldBe false
+      an[IllegalStateException] should be thrownBy deck.size
+      an[IllegalStateException] should be thrownBy deck.removeLast()
+    }
+    it("should refuse decks outside the arena") {
+      an[IndexOutOfBoundsException] should be thrownBy new DeckArena(2, 10).deck(2, palette)
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.{BaseCardSpec, UniformityChecks}
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class BatchShufflerSpec extends BaseCardSpec with UniformityChecks {
+
+  private def sortedDecks(numDecks: Int, size: Int) =
+    (1 to numDecks).map(_ => new IndexedDeck[Integer]((0 until size).map(Int.box).asJava))
+
+  private def contents(deck: Deck[Integer]) = (0 until deck.size).map(deck.peek(_).intValue)
+
+  describe("A FisherYatesBatchShuffler") {
+    it("should keep the cards of every deck") {
+      forAll((Gen.chooseNum(0, 20), "decks"), (Gen.chooseNum(0, 60), "size")) { (numDecks: Int, size: Int) =>
+        val decks = sortedDecks(numDecks, size)
+        new FisherYatesBatchShuffler[Integer](new XoroshiroRandomSource(size)).shuffleAll(decks.asJava)
+        decks.foreach(deck => contents(deck).sorted shouldBe (0 until size))
+      }
+    }
+    it("should keep the cards of every deck in a matrix") {
+      forAll((Gen.chooseNum(0, 20), "decks"), (Gen.chooseNum(1, 60), "size")) { (numDecks: Int, size: Int) =>
+        val matrix = Array.fill(numDecks)(0 until size).flatten
+        new FisherYatesBatchShuffler[Integer](new XoroshiroRandomSource(size)).shuffleMatrix(matrix, size)
+        matrix.grouped(size).foreach(deck => deck.sorted.toSeq shouldBe (0 until size))
+      }
+    }
+    it("should refuse a matrix that does not hold whole decks") {
+      an[IllegalArgumentException] should be thrownBy
+        new FisherYatesBatchShuffler[Integer]().shuffleMatrix(new Array[Int](10), 3)
+    }
+    it("should produce all permutations of small decks equally often") {
+      val decks = sortedDecks(48000, 4)
+      new FisherYatesBatchShuffler[Integer](new XoroshiroRandomSource(6)).shuffleAll(decks.asJava)
+      shouldBeUniform(decks.map(contents), 24)
+    }
+    it("should produce all permutations of small decks in a matrix equally often") {
+      val matrix = Array.fill(48000)(0 until 4).flatten
+      new FisherYatesBatchShuffler[Integer](new SplittableRandomSource(6)).shuffleMatrix(matrix, 4)
+      shouldBeUniform(matrix.grouped(4).map(_.toList).toList, 24)
+    }
+  }
+
+  describe("A BatchShuffler adapted from a Shuffler") {
+    it("should shuffle every deck") {
+      val decks = sortedDecks(1000, 52)
+      BatchShuffler.of(new GameDemo.DeepShuffler[Integer](new XoroshiroRandomSource(52))).shuffleAll(decks.asJava)
+      shouldBeUniform(decks.map(contents(_).head), 52)
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.{BaseCardSpec, UniformityChecks}
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+/**
+  * Statistical checks of the bounded random generation and of the shuffler built on top of it. The sources are seeded,
+  * so the outcome is deterministic.
+  */
+class BoundedRandomSpec extends BaseCardSpec with UniformityChecks {
+
+  private def sortedDeck(size: Int) = new IndexedDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  describe("Bounded random generation") {
+    it("should stay within the bounds") {
+      forAll((Gen.chooseNum(1, Int.MaxValue), "bound"), (Arbitrary.arbitrary[Long], "seed")) { (bound: Int, seed: Long) =>
+        val random = new XoroshiroRandomSource(seed)
+        (1 to 100).map(_ => BoundedRandom.nextInt(random, bound)).forall(r => r >= 0 && r < bound) shouldBe true
+      }
+    }
+    it("should stay within a range with a lower bound") {
+      forAll((Gen.chooseNum(-1000, 1000), "lower"), (Gen.chooseNum(1, 1000), "width")) { (lower: Int, width: Int) =>
+        val r = BoundedRandom.nextInt(new XoroshiroRandomSource(lower), lower, lower + width)
+        r should be >= lower
+        r should be < lower + width
+      }
+    }
+    it("should refuse an empty range") {
+      an[IllegalArgumentException] should be thrownBy BoundedRandom.nextInt(new XoroshiroRandomSource(0), 0)
+    }
+    for (bound <- List(2, 3, 5, 7, 13, 52, 100, 1000, 4099)) {
+      it(s"should produce uniformly distributed values below $bound") {
+        val random = new XoroshiroRandomSource(bound)
+        shouldBeUniform((1 to Math.max(100000, 50 * bound)).map(_ => BoundedRandom.nextInt(random, bound)), bound)
+      }
+    }
+    it("should produce uniformly distributed values for a bound that leaves a large remainder") {
+      // 2^32 mod (3 * 2^29) = 2^30, so a plain modulo reduction would favour the lower two thirds of the range by 3 to
+      // 2. Checking in which third the values fall makes such a bias visible.
+      val bound = 3 << 29
+      val random = new XoroshiroRandomSource(3)
+      shouldBeUniform((1 to 30000).map(_ => BoundedRandom.nextInt(random, bound) / (1 << 29)), 3)
+    }
+  }
+
+  describe("A DeepShuffler") {
+    it("should produce all permutations of a small deck equally often") {
+      val shuffler = new GameDemo.DeepShuffler[Integer](new XoroshiroRandomSource(4))
+      val permutations = (1 to 48000).map { _ =>
+        val deck = sortedDeck(4)
+        shuffler.shuffle(deck)
+        (0 until 4).map(deck.peek(_).intValue).toList
+      }
+      shouldBeUniform(permutations, 24)
+    }
+    it("should put any card at any position equally often") {
+      val shuffler = new GameDemo.DeepShuffler[Integer](new SplittableRandomSource(52))
+      val decks = (1 to 10000).map { _ =>
+        val deck = sortedDeck(52)
+        shuffler.shuffle(deck)
+        (0 until 52).map(deck.peek(_).intValue)
+      }
+      shouldBeUniform(decks.map(_.indexOf(0)), 52) // where the first card goes
+      shouldBeUniform(decks.map(_.indexOf(51)), 52) // where the last card goes
+      shouldBeUniform(decks.map(_.head), 52) // which card ends up first
+      shouldBeUniform(decks.map(_.last), 52) // which card ends up last
+    }
+    it("should give the same shuffle for the same seed") {
+      forAll("seed") { seed: Long =>
+        val (deck1, deck2) = (sortedDeck(52), sortedDeck(52))
+        new GameDemo.DeepShuffler[Integer](new XoroshiroRandomSource(seed)).shuffle(deck1)
+        new GameDemo.DeepShuffler[Integer](new XoroshiroRandomSource(seed)).shuffle(deck2)
+        (0 until 52).map(deck1.peek(_)) shouldBe (0 until 52).map(deck2.peek(_))
+      }
+    }
+  }
+}
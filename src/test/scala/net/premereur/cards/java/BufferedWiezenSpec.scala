@@ -0,0 +1,49 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import net.premereur.cards.java.GameDemo.{BufferedWiezen, DeepShuffler, FrenchCard, Wiezen}
+import org.scalacheck.Arbitrary
+
+import scala.collection.JavaConverters._
+
+class BufferedWiezenSpec extends BaseCardSpec {
+  private def newDeck = new IndexedDeck(GameDemo.allCards)
+
+  describe("The buffered Wiezen") {
+    it("should deal the same hands as the plain Wiezen") {
+      forAll((Arbitrary.arbitrary[Long], "seed")) { seed: Long =>
+        val expected = new Wiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(seed))).dealAll(newDeck)
+        val hands = new BufferedWiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(seed))).dealInto(newDeck)
+        hands.map(_.toList).toList shouldBe expected.asScala.map(_.asScala.toList).toList
+      }
+    }
+    it("should deal the same packed hands as the plain Wiezen, straight into card sets") {
+      forAll((Arbitrary.arbitrary[Long], "seed")) { seed: Long =>
+        val expected = new Wiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(seed))).dealAll(newDeck)
+          .asScala.map(CardSet.of(GameDemo.allCardsPalette, _)).toList
+        val packed = new Wiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(seed)))
+          .dealAllPacked(newDeck, GameDemo.allCardsPalette)
+        val buffered = new BufferedWiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(seed)))
+          .dealAllPacked(newDeck, GameDemo.allCardsPalette)
+        packed.asScala.toList shouldBe expected
+        buffered.asScala.toList shouldBe expected
+      }
+    }
+    it("should reuse its packed hands") {
+      val wiezen = new BufferedWiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(1)))
+      val first = wiezen.dealAllPacked(newDeck, GameDemo.allCardsPalette)
+      val firstHands = first.asScala.map(_.toString).toList
+      wiezen.dealAllPacked(newDeck, GameDemo.allCardsPalette) should be theSameInstanceAs first
+      first.asScala.map(_.toString).toList should not be firstHands
+      first.asScala.map(_.size).sum shouldBe 52
+    }
+    it("should reuse its buffer") {
+      val wiezen = new BufferedWiezen(new DeepShuffler[FrenchCard](new XoroshiroRandomSource(1)))
+      val first = wiezen.dealAll(newDeck)
+      val firstCards = first.asScala.map(_.asScala.toList).toList
+      wiezen.dealAll(newDeck) should be theSameInstanceAs first
+      first.asScala.map(_.asScala.toList).toList should not be firstCards
+      first.asScala.flatMap(_.asScala).toSet shouldBe GameDemo.allCards.asScala.toSet
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+class CardSetSpec extends BaseCardSpec {
+
+  private def ordinals(set: CardSet) =
+    Iterator.iterate(set.nextOrdinal(0))(o => set.nextOrdinal(o + 1)).takeWhile(_ >= 0).toList
+
+  def anyCardSet(newSet: Int => CardSet, capacities: Gen[Int]) = {
+    it("should behave like a set of ordinals") {
+      forAll((capacities, "capacity"), (Gen.listOf(Gen.chooseNum(0, 1000)), "operations")) {
+        (capacity: Int, operations: List[Int]) =>
+          whenever(capacity > 0) {
+            val set = newSet(capacity)
+            val model = operations.foldLeft(Set[Int]()) { (model, operation) =>
+              val ordinal = operation % capacity
+              if (operation % 3 == 0) {
+                set.remove(ordinal) shouldBe model.contains(ordinal)
+                model - ordinal
+              } else {
+                set.add(ordinal) shouldBe !model.contains(ordinal)
+                model + ordinal
+              }
+            }
+            set.size shouldBe model.size
+            (0 until capacity).filter(set.contains) shouldBe model.toList.sorted
+            ordinals(set) shouldBe model.toList.sorted
+          }
+      }
+    }
+    it("should be empty after clearing") {
+      forAll((capacities, "capacity")) { capacity: Int =>
+        val set = newSet(capacity)
+        (0 until capacity by 3).foreach(set.add)
+        set.clear()
+        set.isEmpty shouldBe true
+        set.nextOrdinal(0) shouldBe -1
+      }
+    }
+    it("should hold the last ordinal") {
+      forAll((capacities, "capacity")) { capacity: Int =>
+        whenever(capacity > 0) {
+          val set = newSet(capacity)
+          set.add(capacity - 1)
+          set.contains(capacity - 1) shouldBe true
+          set.contains(0) shouldBe capacity == 1
+          ordinals(set) shouldBe List(capacity - 1)
+        }
+      }
+    }
+    it("should count the cards in a mask over the first 64 ordinals") {
+      forAll((capacities, "capacity"), (Arbitrary.arbitrary[Long], "mask")) { (capacity: Int, mask: Long) =>
+        val set = newSet(capacity)
+        (0 until capacity by 3).foreach(set.add)
+        set.count(mask) shouldBe (0 until math.min(capacity, 64) by 3).count(ordinal => (mask & 1L << ordinal) != 0)
+      }
+    }
+    it("should throw on ordinals beyond the capacity") {
+      forAll((capacities, "capacity")) { capacity: Int =>
+        val set = newSet(capacity)
+        an[IndexOutOfBoundsException] should be thrownBy set.add(capacity)
+        an[IndexOutOfBoundsException] should be thrownBy set.contains(-1)
+      }
+    }
+  }
+
+  describe("A LongCardSet") {
+    it should behave like anyCardSet(new LongCardSet(_), Gen.chooseNum(0, 64))
+    it("should count the cards in a mask") {
+      val set = new LongCardSet(52, 0x3L | 1L << 13 | 1L << 51)
+      set.count(LongCardSet.mask(13)) shouldBe 2
+      set.count(LongCardSet.mask(13) << 13) shouldBe 1
+      set.count(LongCardSet.mask(64)) shouldBe 4
+    }
+    it("should not accept more than 64 cards") {
+      an[IllegalArgumentException] should be thrownBy new LongCardSet(65)
+      an[IllegalArgumentException] should be thrownBy new LongCardSet(3, 0x8L)
+    }
+  }
+
+  describe("A LongArrayCardSet") {
+    it should behave like anyCardSet(new LongArrayCardSet(_), Gen.chooseNum(0, 300))
+  }
+
+  describe("The CardSet factory") {
+    it("should pick the most compact set") {
+      CardSet.ofCapacity(64) shouldBe a[LongCardSet]
+      CardSet.ofCapacity(65) shouldBe a[LongArrayCardSet]
+    }
+    it("should pack a hand by palette ordinal") {
+      val palette = new CardPalette[String](List("a", "b", "c", "d").asJava)
+      CardSet.of(palette, List("d", "b").asJava) shouldBe new LongCardSet(4, 0xAL)
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+class CountingDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+  private val palette = new CardPalette[Integer]((0 until 52).map(Int.box).asJava)
+
+  private def countingDeck(size: Int) = {
+    val deck = new CountingDeck[Integer](new CardPalette[Integer]((0 to 200).map(Int.box).asJava))
+    deck.resetTo((0 until size).map(Int.box).asJava)
+    deck
+  }
+
+  private def contents(deck: Deck[Integer]) = (0 until deck.size).map(deck.peek(_).intValue)
+
+  describe("A FenwickTree") {
+    it("should sum prefixes and find ranks") {
+      forAll((Gen.nonEmptyListOf(Gen.chooseNum(0, 5)), "counts")) { counts: List[Int] =>
+        val tree = new FenwickTree(counts.size)
+        tree.resetTo(counts.toArray)
+        (0 to counts.size).map(tree.prefixSum) shouldBe counts.scanLeft(0)(_ + _)
+        val items = counts.zipWithIndex.flatMap { case (count, index) => List.fill(count)(index) }
+        items.indices.map(tree.indexOfRank) shouldBe items
+      }
+    }
+  }
+
+  describe("A CountingDeck") {
+    it should behave like anyResettableDeck(countingDeck, keepsOrder = false)
+    it should behave like anyPaletteBackedDeck(countingDeck)
+
+    it("should line up its cards by ordinal") {
+      val deck = new CountingDeck[Integer](palette)
+      deck.resetTo(List[Integer](5, 3, 5, 0).asJava)
+      contents(deck) shouldBe List(0, 3, 5, 5)
+    }
+    it("should behave like a sorted multiset") {
+      forAll((Gen.chooseNum(0, 8), "copies"), (Gen.listOf(Gen.chooseNum(-52, 51)), "operations")) {
+        (copies: Int, operations: List[Int]) =>
+          val deck = new CountingDeck[Integer](palette, copies)
+          val model = operations.foldLeft((0 until 52).flatMap(List.fill(copies)(_)).toVector) { (model, operation) =>
+            if (operation >= 0) {
+              deck.insertNth(deck.size, operation)
+              (model :+ operation).sorted
+            } else if (model.nonEmpty) {
+              val n = -operation * 7919 % model.size
+              deck.removeNth(n) shouldBe model(n)
+              model.patch(n, Nil, 1)
+            } else {
+              model
+            }
+          }
+          contents(deck) shouldBe model
+          (0 until 52).map(deck.count(_)) shouldBe (0 until 52).map(card => model.count(_ == card))
+      }
+    }
+    it("should leave its contents alone when swapping") {
+      val deck = new CountingDeck[Integer](palette, 1)
+      deck.swap(0, 51)
+      contents(deck) shouldBe (0 until 52)
+      an[IndexOutOfBoundsException] should be thrownBy deck.swap(0, 52)
+    }
+    it("should deal every card of a shoe with a RandomDealer") {
+      forAll((Arbitrary.arbitrary[Long], "seed")) { seed: Long =>
+        val deck = new CountingDeck[Integer](palette, 8)
+        val dealer = new RandomDealer[Integer](new XoroshiroRandomSource(seed))
+        val dealt = (1 to 416).map(_ => dealer.deal(deck).intValue)
+        deck.size shouldBe 0
+        dealt.sorted shouldBe (0 until 52).flatMap(List.fill(8)(_))
+      }
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+class DealPatternSpec extends BaseCardSpec {
+  describe("A DealPattern") {
+    it("should hand out the packets round the players") {
+      forAll((Gen.chooseNum(1, 6), "players"), (Gen.listOf(Gen.chooseNum(0, 8)), "packets")) {
+        (numPlayers: Int, packets: List[Int]) =>
+          val pattern = new DealPattern(numPlayers, packets: _*)
+          val expectedPlayers = packets.zipWithIndex.flatMap { case (size, packet) => List.fill(size)(packet % numPlayers) }
+          (0 until pattern.numCards).map(pattern.playerAt) shouldBe expectedPlayers
+          (0 until numPlayers).foreach { player =>
+            val positions = (0 until pattern.numCards).filter(pattern.playerAt(_) == player)
+            positions.map(pattern.slotAt) shouldBe positions.indices
+            pattern.handSize(player) shouldBe positions.size
+          }
+      }
+    }
+    it("should give the packets in deal order") {
+      val pattern = DealPattern.rounds(4, 4, 5, 4)
+      pattern.numCards shouldBe 52
+      pattern.numPackets shouldBe 12
+      (0 until 12).map(pattern.packetSize) shouldBe List(4, 4, 4, 4, 5, 5, 5, 5, 4, 4, 4, 4)
+      (0 until 12).map(pattern.packetPlayer) shouldBe List(0, 1, 2, 3, 0, 1, 2, 3, 0, 1, 2, 3)
+      (0 until 12).map(pattern.packetOffset) shouldBe List(0, 0, 0, 0, 4, 4, 4, 4, 9, 9, 9, 9)
+    }
+    it("should reject packets without players") {
+      an[IllegalArgumentException] should be thrownBy new DealPattern(0, 3)
+      an[IllegalArgumentException] should be thrownBy new DealPattern(2, 3, -1)
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package net.premereur.cards.java
+
+import _root_.java.util.concurrent.ForkJoinPool
+import _root_.java.util.function.{Function => JFunction}
+import _root_.java.util.stream.Collectors
+import _root_.java.util.{List => JList}
+
+import net.premereur.cards.BaseCardSpec
+import net.premereur.cards.java.GameDemo.{CompleteDealGame, DeepShuffler, FrenchCard, PickGame, TopDealer}
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+class DealSeedsSpec extends BaseCardSpec {
+  private val pickGame = new JFunction[RandomSource, CompleteDealGame[FrenchCard]] {
+    override def apply(random: RandomSource) = new PickGame(new TopDealer[FrenchCard], new DeepShuffler[FrenchCard](random))
+  }
+
+  private val firstCard = new JFunction[JList[JList[FrenchCard]], FrenchCard] {
+    override def apply(hands: JList[JList[FrenchCard]]) = hands.get(0).get(0)
+  }
+
+  // Fork-join workers are daemon threads, so the pools need not be shut down
+  private val singleThreaded = new ForkJoinPool(1)
+  private val fourThreaded = new ForkJoinPool(4)
+
+  private def asScala(deals: JList[JList[JList[FrenchCard]]]) = deals.asScala.map(_.asScala.map(_.asScala.toList).toList).toList
+
+  private def engineRun(batchSize: Int, numDeals: Long, seed: Long, pool: ForkJoinPool = ForkJoinPool.commonPool()) =
+    asScala(new DealSimulationEngine(pickGame, GameDemo.allCards, DeckType.INDEXED, pool, batchSize)
+      .run(numDeals, seed, Collectors.toList[JList[JList[FrenchCard]]]()))
+
+  describe("The deal seeds") {
+    it("should be the same for the same run and deal") {
+      forAll((Arbitrary.arbitrary[Long], "run"), (Arbitrary.arbitrary[Long], "deal")) { (run: Long, deal: Long) =>
+        DealSeeds.seedFor(run, deal) shouldBe DealSeeds.seedFor(run, deal)
+      }
+    }
+    it("should differ between deals and between runs") {
+      forAll((Arbitrary.arbitrary[Long], "run")) { run: Long =>
+        (0L until 1000L).map(DealSeeds.seedFor(run, _)).toSet should have size 1000
+        (0L until 1000L).map(DealSeeds.seedFor(_, run)).toSet should have size 1000
+      }
+    }
+    it("should give a generator in the same state as a reseeded one") {
+      forAll((Arbitrary.arbitrary[Long], "run"), (Arbitrary.arbitrary[Long], "deal")) { (run: Long, deal: Long) =>
+        val reseeded = new XoroshiroRandomSource(0)
+        reseeded.nextLong()
+        reseeded.reseed(DealSeeds.seedFor(run, deal))
+        val fresh = DealSeeds.randomFor(run, deal)
+        (1 to 10).map(_ => reseeded.nextLong()) shouldBe (1 to 10).map(_ => fresh.nextLong())
+      }
+    }
+  }
+
+  describe("A seeded simulation") {
+    it("should not depend on the batch size") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0L, 1000L), "seed")) { (batchSize: Int, seed: Long) =>
+        engineRun(batchSize, 100, seed) shouldBe engineRun(256, 100, seed)
+      }
+    }
+    it("should not depend on the number of threads") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0L, 1000L), "seed")) { (batchSize: Int, seed: Long) =>
+        engineRun(batchSize, 60, seed, fourThreaded) shouldBe engineRun(1000, 60, seed, singleThreaded)
+      }
+    }
+    it("should regenerate every deal of a run, in order") {
+      val engine = new DealSimulationEngine(pickGame, GameDemo.allCards)
+      engineRun(7, 45, 5, fourThreaded) shouldBe asScala((0 until 45).map(engine.deal(5, _)).asJava)
+    }
+    it("should merge the batches into the same counts as regenerating every deal") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0L, 1000L), "seed")) { (batchSize: Int, seed: Long) =>
+        val engine = new DealSimulationEngine(pickGame, GameDemo.allCards, DeckType.INDEXED, fourThreaded, batchSize)
+        val byFirstCard =
+          engine.run(200, seed, Collectors.groupingBy(firstCard, Collectors.counting[JList[JList[FrenchCard]]]()))
+        val expected = (0 until 200).map(engine.deal(seed, _)).groupBy(firstCard.apply).mapValues(_.size.toLong)
+        byFirstCard.asScala.mapValues(_.longValue).toMap shouldBe expected
+      }
+    }
+    it("should regenerate any deal on its own") {
+      val engine = new DealSimulationEngine(pickGame, GameDemo.allCards)
+      val deals = engineRun(7, 50, 3)
+      forAll((Gen.chooseNum(0, 49), "deal")) { deal: Int =>
+        asScala(_root_.java.util.Collections.singletonList(engine.deal(3, deal))) shouldBe List(deals(deal))
+      }
+    }
+    it("should stream the same deals, sequentially or in parallel") {
+      val sequential = DealSpliterator.deals(pickGame, GameDemo.allCards, DeckType.INDEXED, 4, 200, 5)
+        .collect(Collectors.toList[JList[JList[FrenchCard]]]())
+      val parallel = DealSpliterator.deals(pickGame, GameDemo.allCards, DeckType.INDEXED, 4, 200, 5).parallel
+        .collect(Collectors.toList[JList[JList[FrenchCard]]]())
+      asScala(parallel) shouldBe asScala(sequential)
+      asScala(sequential) shouldBe engineRun(16, 200, 5)
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package net.premereur.cards.java
+
+import _root_.java.util.concurrent.ForkJoinPool
+import _root_.java.util.function.{Function => JFunction}
+import _root_.java.util.stream.Collectors
+import _root_.java.util.{List => JList}
+
+import net.premereur.cards.BaseCardSpec
+import net.premereur.cards.java.GameDemo.{CompleteDealGame, DeepShuffler, FrenchCard, PickGame, TopDealer}
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class DealSimulationEngineSpec extends BaseCardSpec {
+  private type Hands = JList[JList[FrenchCard]]
+
+  private val pickGame = new JFunction[RandomSource, CompleteDealGame[FrenchCard]] {
+    override def apply(random: RandomSource) = new PickGame(new TopDealer[FrenchCard], new DeepShuffler[FrenchCard](random))
+  }
+
+  private val firstCard = new JFunction[Hands, FrenchCard] {
+    override def apply(hands: Hands) = hands.get(0).get(0)
+  }
+
+  // Fork-join workers are daemon threads, so the pools need not be shut down
+  private val singleThreaded = new ForkJoinPool(1)
+  private val fourThreaded = new ForkJoinPool(4)
+
+  private def engine(pool: ForkJoinPool, batchSize: Int) =
+    new DealSimulationEngine(pickGame, GameDemo.allCards, DeckType.INDEXED, pool, batchSize)
+
+  private def asScala(deals: JList[Hands]) = deals.asScala.map(_.asScala.map(_.asScala.toList).toList).toList
+
+  describe("A DealSimulationEngine") {
+    it("should deal the same games for the same seed, whatever the number of threads") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0L, 1000L), "seed")) { (batchSize: Int, seed: Long) =>
+        val expected = asScala(engine(singleThreaded, batchSize).run(60, seed, Collectors.toList[Hands]()))
+        asScala(engine(fourThreaded, batchSize).run(60, seed, Collectors.toList[Hands]())) shouldBe expected
+        asScala(engine(fourThreaded, batchSize).run(60, seed, Collectors.toList[Hands]())) shouldBe expected
+      }
+    }
+    it("should count every deal exactly once") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0, 500), "deals")) { (batchSize: Int, numDeals: Int) =>
+        engine(fourThreaded, batchSize).run(numDeals, 11, Collectors.counting[Hands]()).longValue shouldBe numDeals.toLong
+      }
+    }
+    it("should merge the partial results of the batches") {
+      forAll((Gen.chooseNum(1, 50), "batchSize"), (Gen.chooseNum(0L, 1000L), "seed")) { (batchSize: Int, seed: Long) =>
+        val simulation = engine(fourThreaded, batchSize)
+        val deals = simulation.run(200, seed, Collectors.toList[Hands]()).asScala
+        val byFirstCard = simulation.run(200, seed, Collectors.groupingBy(firstCard, Collectors.counting[Hands]()))
+        deals should have size 200
+        byFirstCard.asScala.mapValues(_.longValue).toMap shouldBe deals.groupBy(firstCard.apply).mapValues(_.size.toLong)
+      }
+    }
+    it("should refuse batches that are not positive") {
+      an[IllegalArgumentException] should be thrownBy engine(singleThreaded, 0)
+    }
+  }
+}
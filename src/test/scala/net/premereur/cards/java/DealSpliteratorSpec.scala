@@ -0,0 +1,47 @@
+package net.premereur.cards.java
+
+import _root_.java.util.function.{Function => JFunction}
+import _root_.java.util.{List => JList}
+
+import net.premereur.cards.BaseCardSpec
+import net.premereur.cards.java.GameDemo.{CompleteDealGame, DeepShuffler, FrenchCard, PickGame, TopDealer}
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class DealSpliteratorSpec extends BaseCardSpec {
+  private val pickGame = new JFunction[RandomSource, CompleteDealGame[FrenchCard]] {
+    override def apply(random: RandomSource) = new PickGame(new TopDealer[FrenchCard], new DeepShuffler[FrenchCard](random))
+  }
+
+  private def deals(numDeals: Long, seed: Long) = DealSpliterator.deals(pickGame, GameDemo.allCards, numDeals, seed)
+
+  private def firstHands(stream: _root_.java.util.stream.Stream[JList[JList[FrenchCard]]]) =
+    stream.iterator.asScala.map(_.get(0).asScala.toList).toList
+
+  describe("A stream of deals") {
+    it("should be sized") {
+      forAll((Gen.chooseNum(0L, 5000L), "numDeals")) { numDeals: Long =>
+        deals(numDeals, 1).spliterator.getExactSizeIfKnown shouldBe numDeals
+        deals(numDeals, 1).parallel.count shouldBe numDeals
+      }
+    }
+    it("should be reproducible from its seed") {
+      forAll((Gen.chooseNum(0L, 100L), "numDeals"), (Gen.chooseNum(0L, 1000L), "seed")) { (numDeals: Long, seed: Long) =>
+        firstHands(deals(numDeals, seed)) shouldBe firstHands(deals(numDeals, seed))
+      }
+    }
+    it("should deal complete decks in parallel") {
+      deals(2000, 1).parallel.allMatch(new _root_.java.util.function.Predicate[JList[JList[FrenchCard]]] {
+        override def test(hands: JList[JList[FrenchCard]]) = hands.asScala.flatMap(_.asScala).toSet.size == 52
+      }) shouldBe true
+    }
+    it("should split in halves down to the minimum split size") {
+      val spliterator = DealSpliterator.deals(pickGame, GameDemo.allCards, DeckType.INDEXED, 10, 45, 1).spliterator
+      val prefix = spliterator.trySplit()
+      (prefix.estimateSize, spliterator.estimateSize) shouldBe (22, 23)
+      prefix.trySplit() shouldBe a[DealSpliterator[_]]
+      prefix.trySplit() shouldBe null
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class FenwickDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+
+  private def newDeck(size: Int) = new FenwickDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  describe("A FenwickDeck") {
+    it should behave like anyJavaDeck(newDeck)
+    it should behave like anyResettableDeck(newDeck)
+
+    it("should keep track of where the original cards are") {
+      forAll((Gen.chooseNum(1, 100), "size"), (Gen.listOf(Gen.chooseNum(0, 99)), "removals")) {
+        (size: Int, removals: List[Int]) =>
+          val deck = newDeck(size)
+          removals.filter(_ => deck.isNotEmpty).foreach(n => deck.removeNth(n % deck.size))
+          (0 until size).map(deck.positionOfSlot).filter(_ >= 0) shouldBe (0 until deck.size)
+          (0 until size).filter(deck.positionOfSlot(_) >= 0).map(Int.box) shouldBe (0 until deck.size).map(deck.peek)
+      }
+    }
+    it("should put cards back where they were dealt from") {
+      forAll((Gen.chooseNum(1, 100), "size"), (Gen.chooseNum(0, 99), "n")) { (size: Int, n: Int) =>
+        val deck = newDeck(size)
+        val position = n % size
+        deck.insertNth(position, deck.removeNth(position))
+        (0 until size).map(deck.peek(_).intValue) shouldBe (0 until size)
+        deck.positionOfSlot(position) shouldBe position
+      }
+    }
+    it("should grow when inserting into a full deck") {
+      val deck = newDeck(8)
+      (0 until 100).foreach(i => deck.insertNth(i % (deck.size + 1), 1000 + i))
+      deck.size shouldBe 108
+    }
+  }
+}
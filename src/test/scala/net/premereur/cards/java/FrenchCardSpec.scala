@@ -0,0 +1,32 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import net.premereur.cards.java.GameDemo.FrenchCard
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class FrenchCardSpec extends BaseCardSpec {
+  describe("The Java French cards") {
+    it("should number the cards suit by suit") {
+      GameDemo.allCards.asScala.map(_.ordinal) shouldBe (0 until 52)
+      GameDemo.allCards.asScala.foreach { card =>
+        card.ordinal shouldBe card.suit.ordinal * 13 + card.value.ordinal
+      }
+    }
+    it("should find a card by its ordinal") {
+      forAll((Gen.chooseNum(0, 51), "ordinal")) { ordinal: Int =>
+        FrenchCard.fromOrdinal(ordinal).ordinal shouldBe ordinal
+        GameDemo.allCardsPalette.ordinal(FrenchCard.fromOrdinal(ordinal)) shouldBe ordinal
+      }
+    }
+    it("should have only one instance of every card") {
+      FrenchCard.of(FrenchCard.Suit.Clubs, FrenchCard.Value.King) should be theSameInstanceAs GameDemo.allCards.get(51)
+    }
+    it("should select a suit with its mask") {
+      val hand = new LongCardSet(52, FrenchCard.suitMask(FrenchCard.Suit.Diamonds))
+      hand.size shouldBe 13
+      (0 until 52).filter(hand.contains).map(FrenchCard.fromOrdinal(_).suit).toSet shouldBe Set(FrenchCard.Suit.Diamonds)
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class JavaDealerSpec extends BaseCardSpec {
+
+  private def newDeck(size: Int) = new IndexedDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  def anyBulkDealer(dealer: Dealer[Integer]) = {
+    it("should deal many cards like it deals them one by one") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "n")) { (size: Int, n: Int) =>
+        whenever(n <= size) {
+          val oneByOneDeck = newDeck(size)
+          val oneByOne = (1 to n).map(_ => dealer.deal(oneByOneDeck))
+          val deck = newDeck(size)
+          val sink = new Array[Integer](n + 1)
+          dealer.dealMany(deck, n, sink, 1)
+          sink.toSeq shouldBe null +: oneByOne
+          (0 until deck.size).map(deck.peek) shouldBe (0 until oneByOneDeck.size).map(oneByOneDeck.peek)
+        }
+      }
+    }
+  }
+
+  describe("The TopDealer") {
+    it should behave like anyBulkDealer(new GameDemo.TopDealer[Integer])
+  }
+
+  describe("A dealer relying on the default") {
+    it should behave like anyBulkDealer(new Dealer[Integer] {
+      override def deal(deck: Deck[Integer]): Integer = deck.removeFirst()
+    })
+  }
+}
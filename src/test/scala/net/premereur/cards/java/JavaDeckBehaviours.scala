@@ -0,0 +1,192 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+import scala.util.Random
+
+/**
+  * Behaviour shared by all implementations of the mutable Java Deck. The decks are created holding the cards 0 until
+  * size; cards above 100 can be used for insertions.
+  */
+trait JavaDeckBehaviours {
+  self: BaseCardSpec =>
+
+  // Decks backed by a palette of 0 to 200 only accept these cards on top of the ones they were created with
+  private val newCardGen = Gen.chooseNum(101, 200)
+
+  def anyJavaDeck(newDeck: Int => Deck[Integer]) = {
+    it("should yield the number of cards inside") {
+      forAll((Gen.chooseNum(0, 100), "size")) { size: Int =>
+        newDeck(size).size shouldBe size
+      }
+    }
+    it("should peek the known card at any position") {
+      forAll((Gen.chooseNum(1, 100), "size")) { size: Int =>
+        val n = Random.nextInt(size)
+        newDeck(size).peek(n) shouldBe n
+      }
+    }
+    it("should remove the known card at any position and close the gap") {
+      forAll((Gen.chooseNum(1, 100), "size")) { size: Int =>
+        val deck = newDeck(size)
+        val n = Random.nextInt(size)
+        deck.removeNth(n) shouldBe n
+        deck.size shouldBe size - 1
+        (0 until size - 1).map(deck.peek(_).intValue) shouldBe (0 until size).filter(_ != n)
+      }
+    }
+    it("should remove the first and the last card") {
+      forAll((Gen.chooseNum(2, 100), "size")) { size: Int =>
+        val deck = newDeck(size)
+        deck.removeFirst() shouldBe 0
+        deck.removeLast() shouldBe size - 1
+        deck.size shouldBe size - 2
+      }
+    }
+    it("should have the new card at the desired position") {
+      forAll((Gen.chooseNum(0, 100), "size"), (newCardGen, "card")) { (size: Int, card: Int) =>
+        val deck = newDeck(size)
+        val position = Random.nextInt(size + 1)
+        deck.insertNth(position, card)
+        deck.size shouldBe size + 1
+        deck.peek(position) shouldBe card
+        deck.removeNth(position) shouldBe card
+        (0 until size).map(deck.peek(_).intValue) shouldBe (0 until size)
+      }
+    }
+    it("should have the new card at the top when inserting last") {
+      forAll((Gen.chooseNum(0, 100), "size"), (newCardGen, "card")) { (size: Int, card: Int) =>
+        val deck = newDeck(size)
+        deck.insertLast(card)
+        deck.peek(size) shouldBe card
+      }
+    }
+    it("should swap two cards") {
+      forAll((Gen.chooseNum(1, 100), "size")) { size: Int =>
+        val deck = newDeck(size)
+        val i = Random.nextInt(size)
+        val j = Random.nextInt(size)
+        deck.swap(i, j)
+        deck.peek(i) shouldBe j
+        deck.peek(j) shouldBe i
+      }
+    }
+    it("should remove a range of cards") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "from"), (Gen.chooseNum(0, 100), "until")) {
+        (size: Int, from: Int, until: Int) =>
+          whenever(from <= until && until <= size) {
+            val deck = newDeck(size)
+            deck.removeRange(from, until).asScala.map(_.intValue) shouldBe (from until until)
+            (0 until deck.size).map(deck.peek(_).intValue) shouldBe (0 until from) ++ (until until size)
+          }
+      }
+    }
+    it("should remove a range of cards into a buffer") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "from"), (Gen.chooseNum(0, 100), "until")) {
+        (size: Int, from: Int, until: Int) =>
+          whenever(from <= until && until <= size) {
+            val deck = newDeck(size)
+            val sink = new Array[Integer](until - from + 2)
+            deck.removeRange(from, until, sink, 1)
+            sink.toSeq shouldBe null +: (from until until).map(Int.box) :+ null
+            (0 until deck.size).map(deck.peek(_).intValue) shouldBe (0 until from) ++ (until until size)
+          }
+      }
+    }
+    it("should insert a range of cards") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "n"), (Gen.chooseNum(0, 20), "number")) {
+        (size: Int, n: Int, number: Int) =>
+          whenever(n <= size) {
+            val deck = newDeck(size)
+            val newCards = (1 to number).map(i => Int.box(100 + i))
+            deck.insertAll(n, newCards.asJava)
+            (0 until deck.size).map(deck.peek(_).intValue) shouldBe (0 until n) ++ newCards.map(_.intValue) ++ (n until size)
+          }
+      }
+    }
+    it("should rotate the cards like Collections.rotate") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(-200, 200), "distance")) { (size: Int, distance: Int) =>
+        val deck = newDeck(size)
+        val expected = new _root_.java.util.ArrayList[Integer]((0 until size).map(Int.box).asJava)
+        _root_.java.util.Collections.rotate(expected, distance)
+        deck.rotate(distance)
+        (0 until size).map(deck.peek(_)) shouldBe expected.asScala
+      }
+    }
+    it("should throw when accessing cards out of bounds") {
+      forAll((Gen.chooseNum(0, 100), "size")) { size: Int =>
+        val deck = newDeck(size)
+        an[IndexOutOfBoundsException] should be thrownBy deck.peek(size)
+        an[IndexOutOfBoundsException] should be thrownBy deck.removeNth(-1)
+      }
+    }
+  }
+
+  /**
+    * Resetting must fully replace the contents, whatever the deck held before. Decks that line up their cards by
+    * ordinal rather than keeping the template order pass keepsOrder = false and are only checked for the same cards.
+    */
+  def anyResettableDeck(newDeck: Int => ResettableDeck[Integer], keepsOrder: Boolean = true) = {
+    def contents(deck: Deck[Integer]) = (0 until deck.size).map(deck.peek(_).intValue)
+
+    def shouldHoldTemplate(deck: Deck[Integer], template: List[Int]) =
+      if (keepsOrder) contents(deck) shouldBe template else contents(deck).sorted shouldBe template.sorted
+
+    val templateGen = for {
+      size <- Gen.chooseNum(0, 100)
+      cards <- Gen.listOfN(size, Gen.chooseNum(0, 200))
+    } yield cards
+
+    it("should be reset to a template shorter or longer than its contents") {
+      forAll((Gen.chooseNum(0, 100), "size"), (templateGen, "template")) { (size: Int, template: List[Int]) =>
+        val deck = newDeck(size)
+        deck.resetTo(template.map(Int.box).asJava)
+        deck.size shouldBe template.size
+        shouldHoldTemplate(deck, template)
+      }
+    }
+    it("should be reset to the template after being changed") {
+      forAll((Gen.chooseNum(1, 100), "size"), (Gen.chooseNum(0, 50).flatMap(Gen.listOfN(_, Gen.chooseNum(0, 299))), "changes"), (templateGen, "template")) {
+        (size: Int, changes: List[Int], template: List[Int]) =>
+          val deck = newDeck(size)
+          changes.foreach { change =>
+            if (change < 100 && deck.isNotEmpty) deck.removeNth(change % deck.size)
+            else if (change < 200) deck.insertNth(change % (deck.size + 1), change - 99)
+            else if (deck.isNotEmpty) deck.swap(change % deck.size, (change * 7) % deck.size)
+          }
+          deck.resetTo(template.map(Int.box).asJava)
+          deck.size shouldBe template.size
+          shouldHoldTemplate(deck, template)
+      }
+    }
+    it("should neither modify nor retain the template") {
+      forAll((Gen.chooseNum(0, 100), "size"), (templateGen, "template")) { (size: Int, template: List[Int]) =>
+        val javaTemplate = new _root_.java.util.ArrayList[Integer](template.map(Int.box).asJava)
+        val deck = newDeck(size)
+        deck.resetTo(javaTemplate)
+        javaTemplate.asScala.map(_.intValue) shouldBe template
+        javaTemplate.clear()
+        deck.size shouldBe template.size
+        shouldHoldTemplate(deck, template)
+      }
+    }
+  }
+
+  /**
+    * Decks that store palette ordinals must check the whole template before they touch their contents.
+    */
+  def anyPaletteBackedDeck(newDeck: Int => ResettableDeck[Integer]) = {
+    it("should be left untouched when reset to a card outside its palette") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "template size")) {
+        (size: Int, templateSize: Int) =>
+          val deck = newDeck(size)
+          val template = (0 until templateSize).map(Int.box) :+ Int.box(1000)
+          an[IllegalArgumentException] should be thrownBy deck.resetTo(template.asJava)
+          deck.size shouldBe size
+          (0 until size).map(deck.peek(_).intValue) shouldBe (0 until size)
+      }
+    }
+  }
+}
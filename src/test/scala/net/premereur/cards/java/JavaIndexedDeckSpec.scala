@@ -0,0 +1,15 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+
+import scala.collection.JavaConverters._
+
+class JavaIndexedDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+
+  private def newDeck(size: Int) = new IndexedDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  describe("A Java IndexedDeck") {
+    it should behave like anyJavaDeck(newDeck)
+    it should behave like anyResettableDeck(newDeck)
+  }
+}
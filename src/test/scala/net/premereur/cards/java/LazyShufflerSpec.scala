@@ -0,0 +1,37 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.{BaseCardSpec, UniformityChecks}
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+class LazyShufflerSpec extends BaseCardSpec with UniformityChecks {
+
+  private def newDeck(size: Int) = new IndexedDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  describe("A LazyShuffler") {
+    it("should deal every card once") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Arbitrary.arbitrary[Long], "seed")) { (size: Int, seed: Long) =>
+        val lazyShuffler = new LazyShuffler[Integer](new XoroshiroRandomSource(seed))
+        val deck = newDeck(size)
+        lazyShuffler.shuffle(deck)
+        (1 to size).map(_ => lazyShuffler.deal(deck).intValue).sorted shouldBe (0 until size)
+        deck.isEmpty shouldBe true
+      }
+    }
+    it("should leave the deck alone when shuffling") {
+      val deck = newDeck(10)
+      new LazyShuffler[Integer](new XoroshiroRandomSource(1)).shuffle(deck)
+      (0 until 10).map(deck.peek(_).intValue) shouldBe (0 until 10)
+    }
+    it("should deal all orders of the first cards equally often") {
+      val lazyShuffler = new LazyShuffler[Integer](new XoroshiroRandomSource(1))
+      val samples = (1 to 20000).map { _ =>
+        val deck = newDeck(5)
+        lazyShuffler.shuffle(deck)
+        (lazyShuffler.deal(deck).intValue, lazyShuffler.deal(deck).intValue)
+      }
+      shouldBeUniform(samples, 20)
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class PackedIntDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+
+  private def paletteDeck(size: Int) =
+    new PaletteDeck[Integer](new CardPalette[Integer]((0 to 200).map(Int.box).asJava), PackedIntDeck.ofSize(size))
+
+  describe("A PackedIntDeck") {
+    it should behave like anyJavaDeck(size => PackedIntDeck.ofSize(size))
+    it should behave like anyResettableDeck(size => PackedIntDeck.ofSize(size))
+
+    it("should be reset to the template, whatever its previous contents") {
+      forAll((Gen.chooseNum(0, 100), "size"), (Gen.chooseNum(0, 100), "template size")) { (size: Int, templateSize: Int) =>
+        val deck = PackedIntDeck.ofSize(size)
+        deck.resetTo((0 until templateSize).reverse.toArray)
+        deck.size shouldBe templateSize
+        (0 until templateSize).map(deck.peekInt) shouldBe (0 until templateSize).reverse
+      }
+    }
+  }
+
+  describe("A PaletteDeck") {
+    it should behave like anyJavaDeck(paletteDeck)
+    it should behave like anyResettableDeck(paletteDeck)
+    it should behave like anyPaletteBackedDeck(paletteDeck)
+
+    it("should refuse cards that are not in the palette") {
+      val deck = new PaletteDeck[Integer](new CardPalette[Integer](List[Integer](0, 1, 2).asJava))
+      an[IllegalArgumentException] should be thrownBy deck.insertFirst(3)
+    }
+
+    it("should be reset to the palette order") {
+      val deck = new PaletteDeck[Integer](new CardPalette[Integer](List[Integer](0, 1, 2).asJava))
+      deck.removeLast()
+      deck.swap(0, 1)
+      deck.reset()
+      (0 until 3).map(deck.peek(_).intValue) shouldBe (0 until 3)
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class PhysicalShufflerSpec extends BaseCardSpec {
+
+  private def shuffled(shuffler: Shuffler[Integer], size: Int) = {
+    val deck = new IndexedDeck[Integer]((0 until size).map(Int.box).asJava)
+    shuffler.shuffle(deck)
+    (0 until size).map(deck.peek(_).intValue)
+  }
+
+  // The number of maximal runs of consecutive cards that keep their relative order
+  private def risingSequences(cards: Seq[Int]) = {
+    val positions = cards.zipWithIndex.sortBy(_._1).map(_._2)
+    1 + positions.sliding(2).count(pair => pair.size == 2 && pair(1) < pair(0))
+  }
+
+  def anyPhysicalShuffler(newShuffler: Long => Shuffler[Integer]) = {
+    it("should keep all the cards") {
+      forAll((Gen.chooseNum(0, 200), "size")) { size: Int =>
+        shuffled(newShuffler(size), size).sorted shouldBe (0 until size)
+      }
+    }
+    it("should give the same shuffle for the same seed") {
+      forAll("seed") { seed: Long =>
+        shuffled(newShuffler(seed), 52) shouldBe shuffled(newShuffler(seed), 52)
+      }
+    }
+  }
+
+  describe("A RiffleShuffler") {
+    it should behave like anyPhysicalShuffler(seed => new RiffleShuffler[Integer](new XoroshiroRandomSource(seed), 7))
+
+    it("should interleave two packets in a single riffle") {
+      forAll((Gen.chooseNum(1, 200), "size")) { size: Int =>
+        risingSequences(shuffled(new RiffleShuffler[Integer](new XoroshiroRandomSource(size), 1), size)) should be <= 2
+      }
+    }
+  }
+
+  describe("An OverhandShuffler") {
+    it should behave like anyPhysicalShuffler(seed => new OverhandShuffler[Integer](new XoroshiroRandomSource(seed), 10, 4))
+
+    it("should reverse the order of the packets, but not of the cards within them") {
+      forAll((Gen.chooseNum(0, 200), "size")) { size: Int =>
+        val cards = shuffled(new OverhandShuffler[Integer](new XoroshiroRandomSource(size), 1, 1), size)
+        cards.sliding(2).forall(pair => pair.size < 2 || pair(0) > pair(1) || pair(0) + 1 == pair(1)) shouldBe true
+      }
+    }
+  }
+
+  describe("A CutShuffler") {
+    it should behave like anyPhysicalShuffler(seed => new CutShuffler[Integer](new XoroshiroRandomSource(seed), 1))
+
+    it("should rotate the deck") {
+      forAll((Gen.chooseNum(1, 200), "size")) { size: Int =>
+        val cards = shuffled(new CutShuffler[Integer](new XoroshiroRandomSource(size), 1), size)
+        cards shouldBe (cards.head until size) ++ (0 until cards.head)
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+class RandomSourceSpec extends BaseCardSpec {
+
+  def anySeededSource(newSource: Long => RandomSource) = {
+    it("should produce the same numbers from the same seed") {
+      forAll("seed") { seed: Long =>
+        val (source1, source2) = (newSource(seed), newSource(seed))
+        (1 to 10).map(_ => source1.nextLong()) shouldBe (1 to 10).map(_ => source2.nextLong())
+      }
+    }
+    it("should produce different numbers from different seeds") {
+      forAll("seed") { seed: Long =>
+        newSource(seed).nextLong() should not be newSource(seed + 1).nextLong()
+      }
+    }
+    it("should stay within the bounds") {
+      forAll((Gen.chooseNum(1, Int.MaxValue), "bound")) { bound: Int =>
+        val source = newSource(bound)
+        (1 to 100).map(_ => source.nextInt(bound)).forall(r => r >= 0 && r < bound) shouldBe true
+        (1 to 100).map(_ => source.nextDouble()).forall(r => r >= 0 && r < 1) shouldBe true
+      }
+    }
+  }
+
+  describe("A SplittableRandomSource") {
+    it should behave like anySeededSource(new SplittableRandomSource(_))
+
+    it("should split off a source that produces different numbers") {
+      forAll("seed") { seed: Long =>
+        val source = new SplittableRandomSource(seed)
+        val split = source.split()
+        (1 to 10).map(_ => source.nextLong()) should not be (1 to 10).map(_ => split.nextLong())
+      }
+    }
+  }
+
+  describe("A XoroshiroRandomSource") {
+    it should behave like anySeededSource(new XoroshiroRandomSource(_))
+  }
+}
@@ -0,0 +1,26 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.Gen
+
+import scala.collection.JavaConverters._
+
+class RingBufferDeckSpec extends BaseCardSpec with JavaDeckBehaviours {
+
+  private def ringBufferDeck(size: Int) = new RingBufferDeck[Integer]((0 until size).map(Int.box).asJava)
+
+  describe("A RingBufferDeck") {
+    it should behave like anyJavaDeck(ringBufferDeck)
+    it should behave like anyResettableDeck(ringBufferDeck)
+
+    it("should keep its order when dealing from the bottom and inserting at the top past its capacity") {
+      forAll((Gen.chooseNum(1, 100), "size"), (Gen.chooseNum(0, 300), "moves")) { (size: Int, moves: Int) =>
+        val deck = ringBufferDeck(size)
+        (0 until moves).foreach(_ => deck.insertLast(deck.removeFirst()))
+        (0 until moves).foreach(i => deck.insertFirst(-i))
+        deck.size shouldBe size + moves
+        (0 until size).map(i => deck.peek(moves + i).intValue) shouldBe (0 until size).map(i => (i + moves) % size)
+      }
+    }
+  }
+}
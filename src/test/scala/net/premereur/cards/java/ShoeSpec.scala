@@ -0,0 +1,80 @@
+package net.premereur.cards.java
+
+import net.premereur.cards.BaseCardSpec
+import org.scalacheck.{Arbitrary, Gen}
+
+import scala.collection.JavaConverters._
+
+class ShoeSpec extends BaseCardSpec with JavaDeckBehaviours {
+  private val palette = new CardPalette[Integer]((0 until 52).map(Int.box).asJava)
+
+  private def contents(shoe: Shoe[Integer]) = (0 until shoe.size).map(shoe.peek(_).intValue)
+
+  private def newShoe(size: Int) = {
+    val shoe = new Shoe[Integer](new CardPalette[Integer]((0 to 200).map(Int.box).asJava), 0)
+    shoe.resetTo((0 until size).map(Int.box).asJava)
+    shoe
+  }
+
+  describe("A Shoe") {
+    it should behave like anyJavaDeck(newShoe)
+    it should behave like anyResettableDeck(newShoe)
+    it should behave like anyPaletteBackedDeck(newShoe)
+
+    it("should hold every card once per deck") {
+      forAll((Gen.chooseNum(0, 8), "decks")) { numDecks: Int =>
+        val shoe = new Shoe[Integer](palette, numDecks)
+        shoe.size shouldBe 52 * numDecks
+        (0 until 52).map(shoe.count(_)) shouldBe List.fill(52)(numDecks)
+        contents(shoe) shouldBe List.fill(numDecks)(0 until 52).flatten
+      }
+    }
+    it("should count the cards that are dealt and put back") {
+      val shoe = new Shoe[Integer](palette, 6)
+      shoe.dealOrdinal() shouldBe 51
+      shoe.removeLast() shouldBe 50
+      shoe.removeFirst() shouldBe 0
+      (shoe.count(51), shoe.count(50), shoe.count(0), shoe.count(1)) shouldBe (5, 5, 5, 6)
+      shoe.insertFirst(51)
+      shoe.count(51) shouldBe 6
+    }
+    it("should keep all the cards when shuffling") {
+      forAll((Gen.chooseNum(1, 8), "decks"), (Arbitrary.arbitrary[Long], "seed")) { (numDecks: Int, seed: Long) =>
+        val shoe = new Shoe[Integer](palette, numDecks)
+        shoe.removeLast()
+        shoe.shuffle(new XoroshiroRandomSource(seed))
+        contents(shoe).sorted shouldBe (0 until 52).flatMap(List.fill(numDecks)(_))
+        (0 until 52).map(shoe.count(_)) shouldBe List.fill(52)(numDecks)
+        contents(shoe) should not be List.fill(numDecks)(0 until 52).flatten
+      }
+    }
+    it("should bring up the cut card at the penetration") {
+      val shoe = new Shoe[Integer](palette, 6, 0.75)
+      (1 to 234).foreach { _ =>
+        shoe.isCutCardReached shouldBe false
+        shoe.dealOrdinal()
+      }
+      shoe.isCutCardReached shouldBe true
+      shoe.refill()
+      shoe.isCutCardReached shouldBe false
+    }
+    it("should be created by DeckType with as many decks as the cards hold") {
+      forAll((Gen.chooseNum(1, 8), "decks"), (Arbitrary.arbitrary[Long], "seed")) { (numDecks: Int, seed: Long) =>
+        val cards = List.fill(numDecks)((0 until 52).reverse).flatten
+        val shoe = DeckType.SHOE.create[Integer](cards.map(Int.box).asJava).asInstanceOf[Shoe[Integer]]
+        shoe.numDecks shouldBe numDecks
+        contents(shoe) shouldBe cards
+        shoe.isCutCardReached shouldBe false
+        shoe.shuffle(new XoroshiroRandomSource(seed))
+        shoe.size shouldBe 52 * numDecks
+      }
+    }
+    it("should not be created by DeckType from cards that are not whole decks") {
+      an[IllegalArgumentException] should be thrownBy DeckType.SHOE.create[Integer](List[Integer](0, 0, 1).asJava)
+    }
+    it("should refuse a penetration outside (0, 1]") {
+      an[IllegalArgumentException] should be thrownBy new Shoe[Integer](palette, 6, 0)
+      an[IllegalArgumentException] should be thrownBy new Shoe[Integer](palette, 6, 1.1)
+    }
+  }
+}